@@ -0,0 +1,76 @@
+package com.sampoom.purchase.api.internal.controller;
+
+import com.sampoom.purchase.api.purchase.dto.OrderCacheStatsDto;
+import com.sampoom.purchase.api.purchase.service.OrderDetailCache;
+import com.sampoom.purchase.common.config.db.OrderPartitionDto;
+import com.sampoom.purchase.common.config.db.OrderPartitionManager;
+import com.sampoom.purchase.common.config.jwt.TokenCacheStatsDto;
+import com.sampoom.purchase.common.config.jwt.VerifiedTokenCache;
+import com.sampoom.purchase.common.event.OutboxLaneStatsDto;
+import com.sampoom.purchase.common.event.OutboxLanes;
+import com.sampoom.purchase.common.event.OutboxMetrics;
+import com.sampoom.purchase.common.event.OutboxMetricsDto;
+import com.sampoom.purchase.common.event.OutboxRetentionService;
+import com.sampoom.purchase.common.event.OutboxStatsDto;
+import com.sampoom.purchase.common.response.ApiResponse;
+import com.sampoom.purchase.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Internal Metrics", description = "내부 운영 지표 API 입니다.")
+@RestController
+@RequestMapping("/internal/metrics")
+@RequiredArgsConstructor
+public class InternalMetricsController {
+
+    private final OrderDetailCache orderDetailCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final OutboxRetentionService outboxRetentionService;
+    private final OutboxLanes outboxLanes;
+    private final OutboxMetrics outboxMetrics;
+    private final OrderPartitionManager orderPartitionManager;
+
+    @Operation(summary = "주문 상세 캐시 지표", description = "힙/오프힙 계층별 적중률, 제거 수, 메모리 사용량을 조회합니다.")
+    @GetMapping("/order-cache")
+    public ResponseEntity<ApiResponse<OrderCacheStatsDto>> getOrderCacheStats() {
+        return ApiResponse.success(SuccessStatus.OK, orderDetailCache.stats());
+    }
+
+    @Operation(summary = "JWT 검증 캐시 지표", description = "서명 검증을 생략한 비율(적중률)과 캐시 항목 수를 조회합니다.")
+    @GetMapping("/jwt-cache")
+    public ResponseEntity<ApiResponse<TokenCacheStatsDto>> getJwtCacheStats() {
+        return ApiResponse.success(SuccessStatus.OK, verifiedTokenCache.stats());
+    }
+
+    @Operation(summary = "아웃박스 지표", description = "아웃박스 테이블 크기, 대기/DEAD 건수, 보존 기간 정리 속도를 조회합니다.")
+    @GetMapping("/outbox")
+    public ResponseEntity<ApiResponse<OutboxStatsDto>> getOutboxStats() {
+        return ApiResponse.success(SuccessStatus.OK, outboxRetentionService.stats());
+    }
+
+    @Operation(summary = "아웃박스 발행 지표",
+            description = "상태별 행 수, 가장 오래된 대기 행의 나이, 기록→발행/전송 지연 히스토그램, 재시도 분포, DEAD 비율을 조회합니다.")
+    @GetMapping("/outbox/publish")
+    public ResponseEntity<ApiResponse<OutboxMetricsDto>> getOutboxPublishMetrics() {
+        return ApiResponse.success(SuccessStatus.OK, outboxMetrics.snapshot());
+    }
+
+    @Operation(summary = "아웃박스 발행 레인 지표", description = "레인별 대기 건수와 발행/실패/보류 건수, 최근 1분 처리량을 조회합니다.")
+    @GetMapping("/outbox/lanes")
+    public ResponseEntity<ApiResponse<List<OutboxLaneStatsDto>>> getOutboxLaneStats() {
+        return ApiResponse.success(SuccessStatus.OK, outboxLanes.stats());
+    }
+
+    @Operation(summary = "주문 파티션 목록", description = "주문/아이템 테이블의 월 파티션별 범위, 대략적인 행 수, 크기를 조회합니다.")
+    @GetMapping("/order-partitions")
+    public ResponseEntity<ApiResponse<List<OrderPartitionDto>>> getOrderPartitions() {
+        return ApiResponse.success(SuccessStatus.OK, orderPartitionManager.stats());
+    }
+}
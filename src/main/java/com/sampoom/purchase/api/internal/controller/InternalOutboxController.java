@@ -0,0 +1,48 @@
+package com.sampoom.purchase.api.internal.controller;
+
+import com.sampoom.purchase.common.event.OutboxRedriveJobDto;
+import com.sampoom.purchase.common.event.OutboxRedriveRequestDto;
+import com.sampoom.purchase.common.event.OutboxRedriveService;
+import com.sampoom.purchase.common.response.ApiResponse;
+import com.sampoom.purchase.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "Internal Outbox", description = "아웃박스 운영 API 입니다.")
+@RestController
+@RequestMapping("/internal/outbox")
+@RequiredArgsConstructor
+public class InternalOutboxController {
+
+    private final OutboxRedriveService outboxRedriveService;
+
+    @Operation(summary = "DEAD 이벤트 재발행", description = "조건에 맞는 DEAD 행을 초당 제한된 속도로 READY 로 되돌려 다시 발행합니다.")
+    @PostMapping("/redrive")
+    public ResponseEntity<ApiResponse<OutboxRedriveJobDto>> redrive(@RequestBody OutboxRedriveRequestDto requestDto) {
+        return ApiResponse.success(SuccessStatus.CREATED, outboxRedriveService.start(requestDto));
+    }
+
+    @Operation(summary = "재발행 작업 목록", description = "이 인스턴스에서 실행한 최근 재발행 작업을 조회합니다.")
+    @GetMapping("/redrive")
+    public ResponseEntity<ApiResponse<List<OutboxRedriveJobDto>>> getRedriveJobs() {
+        return ApiResponse.success(SuccessStatus.OK, outboxRedriveService.list());
+    }
+
+    @Operation(summary = "재발행 진행 상황", description = "재발행 작업의 진행률을 조회합니다.")
+    @GetMapping("/redrive/{jobId}")
+    public ResponseEntity<ApiResponse<OutboxRedriveJobDto>> getRedriveJob(@PathVariable UUID jobId) {
+        return ApiResponse.success(SuccessStatus.OK, outboxRedriveService.get(jobId));
+    }
+
+    @Operation(summary = "재발행 중단", description = "진행 중인 재발행 작업을 현재 배치 이후 중단합니다.")
+    @PostMapping("/redrive/{jobId}/cancel")
+    public ResponseEntity<ApiResponse<OutboxRedriveJobDto>> cancelRedrive(@PathVariable UUID jobId) {
+        return ApiResponse.success(SuccessStatus.OK, outboxRedriveService.cancel(jobId));
+    }
+}
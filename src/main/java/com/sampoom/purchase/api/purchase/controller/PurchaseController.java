@@ -1,18 +1,29 @@
 package com.sampoom.purchase.api.purchase.controller;
 
+import com.sampoom.purchase.api.purchase.dto.BulkOrderResponseDto;
 import com.sampoom.purchase.api.purchase.dto.PurchaseOrderRequestDto;
 import com.sampoom.purchase.api.purchase.dto.PurchaseOrderResponseDto;
 import com.sampoom.purchase.api.purchase.entity.OrderStatus;
 import com.sampoom.purchase.api.purchase.entity.UrgencyLevel;
+import com.sampoom.purchase.api.purchase.service.OrderExportService;
+import com.sampoom.purchase.api.purchase.service.PurchaseBulkService;
 import com.sampoom.purchase.api.purchase.service.PurchaseService;
+import com.sampoom.purchase.common.idempotency.IdempotencyService;
 import com.sampoom.purchase.common.response.ApiResponse;
 import com.sampoom.purchase.common.response.PageResponseDto;
 import com.sampoom.purchase.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Tag(name = "Purchase", description = "Purchase 관련 API 입니다.")
 @RestController
@@ -20,15 +31,31 @@ import org.springframework.web.bind.annotation.*;
 public class PurchaseController {
 
     private final PurchaseService purchaseService;
+    private final PurchaseBulkService purchaseBulkService;
+    private final IdempotencyService idempotencyService;
+    private final OrderExportService orderExportService;
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
-    @Operation(summary = "자재 주문 생성", description = "공장에 필요한 자재 주문을 생성합니다.")
+    @Operation(summary = "자재 주문 생성", description = "공장에 필요한 자재 주문을 생성합니다. Idempotency-Key 헤더로 재시도 시 중복 생성을 막습니다. 같은 키로 다른 본문을 보내면 409 를 반환합니다.")
     @PostMapping()
     public ResponseEntity<ApiResponse<PurchaseOrderResponseDto>> createMaterialOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody PurchaseOrderRequestDto requestDto) {
         return ApiResponse.success(SuccessStatus.CREATED,
-                purchaseService.createMaterialOrder(requestDto));
+                idempotencyService.execute("createMaterialOrder", idempotencyKey, requestDto, PurchaseOrderResponseDto.class,
+                        () -> purchaseService.createMaterialOrder(requestDto)));
     }
 
+    @Operation(summary = "자재 주문 대량 생성", description = "여러 자재 주문을 청크 단위로 일괄 생성하고 건별 결과를 반환합니다.")
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkOrderResponseDto>> createMaterialOrders(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody List<PurchaseOrderRequestDto> requestDtos) {
+        return ApiResponse.success(SuccessStatus.CREATED,
+                idempotencyService.execute("createMaterialOrders", idempotencyKey, requestDtos, BulkOrderResponseDto.class,
+                        () -> purchaseBulkService.createMaterialOrders(requestDtos)));
+    }
 
 
     @Operation(summary = "자재 주문 취소", description = "주문을 취소 처리합니다.")
@@ -45,6 +72,20 @@ public class PurchaseController {
         return ApiResponse.success(SuccessStatus.OK, purchaseService.receiveOrder(orderId));
     }
 
+    @Operation(summary = "자재 주문 대량 입고 처리", description = "여러 주문을 한 번에 입고 처리하고 주문 ID 별 결과를 반환합니다.")
+    @PatchMapping("/bulk/receive")
+    public ResponseEntity<ApiResponse<BulkOrderResponseDto>> receiveOrders(
+            @RequestBody List<Long> orderIds) {
+        return ApiResponse.success(SuccessStatus.OK, purchaseBulkService.receiveOrders(orderIds));
+    }
+
+    @Operation(summary = "자재 주문 대량 취소", description = "여러 주문을 한 번에 취소 처리하고 주문 ID 별 결과를 반환합니다.")
+    @PatchMapping("/bulk/cancel")
+    public ResponseEntity<ApiResponse<BulkOrderResponseDto>> cancelOrders(
+            @RequestBody List<Long> orderIds) {
+        return ApiResponse.success(SuccessStatus.OK, purchaseBulkService.cancelOrders(orderIds));
+    }
+
     @Operation(summary = "자재 주문 삭제", description = "주문을 삭제합니다(소프트 삭제).")
     @DeleteMapping("/{orderId}")
     public ResponseEntity<ApiResponse<Void>> deleteOrder(
@@ -60,14 +101,48 @@ public class PurchaseController {
         return ApiResponse.success(SuccessStatus.OK, purchaseService.getOrder(orderId));
     }
 
-    @Operation(summary = "자재 주문 목록 조회", description = "주문 상태 필터와 검색(자재명/자재코드/주문코드), 긴급도 필터로 목록을 조회합니다.")
+    @Operation(summary = "자재 주문 목록 조회", description = "주문 상태 필터와 검색(자재명/자재코드/주문코드), 긴급도 필터로 목록을 조회합니다. "
+            + "cursor 파라미터를 보내면(첫 페이지는 빈 값) 커서 방식으로 조회하며, 응답의 nextCursor 로 다음 페이지를 요청합니다. "
+            + "includeTotal=false 면 총 건수 계산을 생략합니다. "
+            + "기본은 보관 기간이 지나 아카이브된 주문을 제외하며, includeArchived=true 면 함께 조회합니다. "
+            + "주문일 범위(from 포함, to 미포함)를 지정하면 해당 기간의 주문만 조회합니다.")
     @GetMapping()
     public ResponseEntity<ApiResponse<PageResponseDto<PurchaseOrderResponseDto>>> getOrders(
             @RequestParam(required = false) OrderStatus status,
             @RequestParam(required = false) UrgencyLevel urgency,
             @RequestParam(required = false) String query,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return ApiResponse.success(SuccessStatus.OK, purchaseService.getOrders(status, urgency, query, page, size));
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        if (cursor != null) {
+            return ApiResponse.success(SuccessStatus.OK,
+                    purchaseService.getOrdersByCursor(status, urgency, query, from, to, cursor, size, includeArchived));
+        }
+        return ApiResponse.success(SuccessStatus.OK,
+                purchaseService.getOrders(status, urgency, query, from, to, page, size, includeTotal, includeArchived));
+    }
+
+    @Operation(summary = "자재 주문 내보내기", description = "목록 조회와 같은 필터에 주문일 범위(from 포함, to 미포함)를 더해 "
+            + "주문과 아이템을 NDJSON(주문당 한 줄) 또는 CSV(아이템당 한 줄)로 스트리밍합니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) UrgencyLevel urgency,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        OrderExportService.Format exportFormat = OrderExportService.Format.from(format);
+        OrderExportService.ExportFilter filter = new OrderExportService.ExportFilter(status, urgency, query, from, to);
+        StreamingResponseBody body = out -> orderExportService.export(filter, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"purchase-orders." + exportFormat.extension() + "\"")
+                .body(body);
     }
 }
@@ -0,0 +1,24 @@
+package com.sampoom.purchase.api.purchase.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대량 주문 등록/입고/취소 응답
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkOrderResponseDto {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private long elapsedMs;
+    private double ordersPerSecond; // 처리량 (성공 건 기준)
+    private List<BulkOrderResultDto> results;
+}
@@ -0,0 +1,24 @@
+package com.sampoom.purchase.api.purchase.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 주문 등록/입고/취소의 건별 처리 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkOrderResultDto {
+    private int index;                      // 요청 목록에서의 위치 (0부터)
+    private Long orderId;                   // 입고/취소 요청의 주문 ID
+    private boolean success;
+    private PurchaseOrderResponseDto order; // 성공 시 생성된 주문
+    private Integer errorCode;              // 실패 시 에러 코드
+    private String errorMessage;            // 실패 시 사유
+}
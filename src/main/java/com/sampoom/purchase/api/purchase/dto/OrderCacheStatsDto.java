@@ -0,0 +1,29 @@
+package com.sampoom.purchase.api.purchase.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderCacheStatsDto {
+    private boolean enabled;
+    private long loads;          // 두 계층 모두 놓쳐 DB 에서 읽은 횟수
+    private long invalidations;  // 로컬 + 다른 인스턴스 알림으로 무효화한 횟수
+
+    private int heapEntries;
+    private double heapHitRate;
+    private long heapEvictions;
+
+    // 오프힙 계층 (비활성화 시 null)
+    private Integer offHeapEntries;
+    private Double offHeapHitRate;
+    private Long offHeapEvictions;
+    private Long offHeapUsedBytes;
+    private Long offHeapMaxBytes;
+}
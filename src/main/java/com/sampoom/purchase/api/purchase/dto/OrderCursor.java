@@ -0,0 +1,44 @@
+package com.sampoom.purchase.api.purchase.dto;
+
+import com.sampoom.purchase.common.exception.BadRequestException;
+import com.sampoom.purchase.common.response.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 주문 목록 커서 (orderAt DESC, id DESC 정렬 기준의 마지막 위치)
+ * 클라이언트에는 불투명한 base64url 문자열로 전달
+ */
+public record OrderCursor(LocalDateTime orderAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static OrderCursor of(PurchaseOrderResponseDto order) {
+        return new OrderCursor(order.getOrderAt(), order.getId());
+    }
+
+    /**
+     * @return 빈 값이면 null (첫 페이지)
+     */
+    public static OrderCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARATOR);
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = orderAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,28 @@
+package com.sampoom.purchase.api.purchase.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 목록 조회용 주문 아이템 프로젝션
+ */
+public record PurchaseOrderItemRow(Long orderId,
+                                   String materialCode,
+                                   String materialName,
+                                   String unit,
+                                   Long quantity,
+                                   Long standardQuantity,
+                                   BigDecimal unitPrice,
+                                   Integer leadTimeDays) {
+
+    public PurchaseOrderItemDto toDto() {
+        return PurchaseOrderItemDto.builder()
+                .materialCode(materialCode)
+                .materialName(materialName)
+                .unit(unit)
+                .quantity(quantity)
+                .standardQuantity(standardQuantity)
+                .unitPrice(unitPrice)
+                .leadTimeDays(leadTimeDays)
+                .build();
+    }
+}
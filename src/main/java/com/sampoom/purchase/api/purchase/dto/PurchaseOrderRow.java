@@ -0,0 +1,41 @@
+package com.sampoom.purchase.api.purchase.dto;
+
+import com.sampoom.purchase.api.purchase.entity.OrderStatus;
+import com.sampoom.purchase.api.purchase.entity.UrgencyLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록 조회용 주문 프로젝션 (영속성 컨텍스트에 엔티티를 올리지 않음)
+ */
+public record PurchaseOrderRow(Long id,
+                               String code,
+                               LocalDateTime orderAt,
+                               LocalDateTime requiredAt,
+                               LocalDateTime expectedDeliveryAt,
+                               Long factoryId,
+                               String factoryName,
+                               String requesterName,
+                               UrgencyLevel urgency,
+                               BigDecimal expectedAmount,
+                               OrderStatus status) {
+
+    public PurchaseOrderResponseDto toResponse(List<PurchaseOrderItemDto> items) {
+        return PurchaseOrderResponseDto.builder()
+                .id(id)
+                .status(status)
+                .orderCode(code)
+                .orderAt(orderAt)
+                .requiredAt(requiredAt)
+                .expectedDeliveryAt(expectedDeliveryAt)
+                .factoryId(factoryId)
+                .factoryName(factoryName)
+                .requesterName(requesterName)
+                .urgency(urgency)
+                .expectedAmount(expectedAmount)
+                .items(items)
+                .build();
+    }
+}
@@ -18,12 +18,13 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@SQLDelete(sql = "UPDATE purchase_order SET deleted = true, deleted_at = now() WHERE purchase_order_id = ?")
+@SQLDelete(sql = "UPDATE purchase_order SET deleted = true, deleted_at = now(), updated_at = now() WHERE purchase_order_id = ?")
 @SQLRestriction("deleted = false")
 public class PurchaseOrder extends SoftDeleteEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchase_order_seq_gen")
+    @SequenceGenerator(name = "purchase_order_seq_gen", sequenceName = "purchase_order_seq", allocationSize = 50)
     @Column(name = "purchase_order_id")
     private Long id;
 
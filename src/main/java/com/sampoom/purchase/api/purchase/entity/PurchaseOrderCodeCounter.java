@@ -0,0 +1,26 @@
+package com.sampoom.purchase.api.purchase.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 주문 코드 일련번호 카운터 (PR-yyMMdd-NNN 의 NNN)
+ * 각 인스턴스는 last_seq 를 블록 단위로 증가시켜 번호 구간을 예약함
+ */
+@Entity
+@Getter
+@Table(name = "purchase_order_code_counter")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PurchaseOrderCodeCounter {
+
+    @Id
+    @Column(name = "code_date")
+    private LocalDate codeDate;
+
+    @Column(nullable = false)
+    private Long lastSeq; // 지금까지 예약된 마지막 일련번호
+}
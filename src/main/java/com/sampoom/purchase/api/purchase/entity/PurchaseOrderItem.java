@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
@@ -13,7 +14,8 @@ import java.math.BigDecimal;
 @Builder
 public class PurchaseOrderItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchase_order_item_seq_gen")
+    @SequenceGenerator(name = "purchase_order_item_seq_gen", sequenceName = "purchase_order_item_seq", allocationSize = 50)
     @Column(name = "purchase_order_item_id")
     private Long id;
 
@@ -35,4 +37,7 @@ public class PurchaseOrderItem {
     private BigDecimal unitPrice;
 
     private Integer leadTimeDays; // 자재 리드타임 (일 단위)
+
+    @Column(updatable = false)
+    private LocalDateTime orderAt; // 주문 일시 복사본 (주문과 같은 월 파티션에 두기 위한 파티션 키, 파티셔닝을 쓰지 않으면 null)
 }
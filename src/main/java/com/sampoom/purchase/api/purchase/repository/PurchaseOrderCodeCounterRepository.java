@@ -0,0 +1,46 @@
+package com.sampoom.purchase.api.purchase.repository;
+
+import com.sampoom.purchase.api.purchase.entity.PurchaseOrderCodeCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+public interface PurchaseOrderCodeCounterRepository extends JpaRepository<PurchaseOrderCodeCounter, LocalDate> {
+
+    /**
+     * 해당 일자의 번호 블록을 예약하고 블록의 마지막 번호를 반환
+     * - 행이 있으면 last_seq 를 blockSize 만큼 원자적으로 증가
+     * - 그날 첫 예약이면 기존 주문 코드의 최대 번호 뒤에서 시작 (전환 당일 중복 방지)
+     * - 주문 트랜잭션과 분리해 즉시 커밋 → 카운터 행 잠금을 짧게 유지
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = """
+            WITH bumped AS (
+                UPDATE purchase_order_code_counter
+                   SET last_seq = last_seq + :blockSize
+                 WHERE code_date = :codeDate
+                RETURNING last_seq
+            ), inserted AS (
+                INSERT INTO purchase_order_code_counter (code_date, last_seq)
+                SELECT :codeDate, :blockSize + (
+                           SELECT COALESCE(MAX(CAST(SUBSTRING(po.code FROM LENGTH(:prefix) + 1) AS BIGINT)), 0)
+                             FROM purchase_order po
+                            WHERE po.code LIKE CONCAT(:prefix, '%')
+                              AND SUBSTRING(po.code FROM LENGTH(:prefix) + 1) ~ '^[0-9]+$')
+                 WHERE NOT EXISTS (SELECT 1 FROM bumped)
+                ON CONFLICT (code_date) DO UPDATE
+                   SET last_seq = purchase_order_code_counter.last_seq + :blockSize
+                RETURNING last_seq
+            )
+            SELECT last_seq FROM bumped
+            UNION ALL
+            SELECT last_seq FROM inserted
+            """, nativeQuery = true)
+    Long reserveBlock(@Param("codeDate") LocalDate codeDate,
+                      @Param("prefix") String prefix,
+                      @Param("blockSize") long blockSize);
+}
@@ -1,11 +1,22 @@
 package com.sampoom.purchase.api.purchase.repository;
 
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderItemRow;
 import com.sampoom.purchase.api.purchase.entity.PurchaseOrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PurchaseOrderItemRepository extends JpaRepository<PurchaseOrderItem, Long> {
     List<PurchaseOrderItem> findByPurchaseOrderId(Long purchaseOrderId);
     List<PurchaseOrderItem> findByPurchaseOrderIdIn(List<Long> orderIds);
+
+    // 목록 2단계: 주문 ID 목록의 아이템을 DTO 프로젝션으로 조회
+    @Query("select new com.sampoom.purchase.api.purchase.dto.PurchaseOrderItemRow(" +
+            "i.purchaseOrder.id, i.materialCode, i.materialName, i.unit, i.quantity, i.standardQuantity, " +
+            "i.unitPrice, i.leadTimeDays) " +
+            "from PurchaseOrderItem i where i.purchaseOrder.id in :orderIds order by i.id")
+    List<PurchaseOrderItemRow> findRowsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -1,28 +1,90 @@
 package com.sampoom.purchase.api.purchase.repository;
 
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderRow;
 import com.sampoom.purchase.api.purchase.entity.OrderStatus;
 import com.sampoom.purchase.api.purchase.entity.PurchaseOrder;
 import com.sampoom.purchase.api.purchase.entity.UrgencyLevel;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, Long> {
 
-    @Query("select distinct po from PurchaseOrder po left join PurchaseOrderItem i on i.purchaseOrder = po " +
+    /**
+     * 목록 1단계: 페이지에 해당하는 주문 ID 만 조회
+     * 아이템 검색은 EXISTS 로 처리해 조인 중복/DISTINCT 없이 주문 행만 스캔
+     * query 는 LIKE 이스케이프된 값 (%, _ 를 글자 그대로 검색)
+     * 주문일 범위(from 포함, to 미포함)는 항상 바인딩해 월 파티션 테이블에서 범위 밖 파티션을 건너뜀
+     */
+    @Query("select po.id from PurchaseOrder po " +
             "where (:status is null or po.status = :status) " +
+            "and po.orderAt >= :from and po.orderAt < :to " +
             "and (:urgency is null or po.urgency = :urgency) " +
-            "and (:query is null or :query = '' or lower(po.code) like lower(concat('%', :query, '%')) " +
-            "or lower(i.materialCode) like lower(concat('%', :query, '%')) " +
-            "or lower(i.materialName) like lower(concat('%', :query, '%')))" )
-    Page<PurchaseOrder> search(@Param("status") OrderStatus status,
-                               @Param("urgency") UrgencyLevel urgency,
-                               @Param("query") String query,
-                               Pageable pageable);
-
-    Optional<PurchaseOrder> findTopByCodeStartingWithOrderByCodeDesc(String prefix);
+            "and (:query is null or :query = '' or lower(po.code) like lower(concat('%', :query, '%')) escape '\\' " +
+            "or exists (select 1 from PurchaseOrderItem i where i.purchaseOrder = po " +
+            "and (lower(i.materialCode) like lower(concat('%', :query, '%')) escape '\\' " +
+            "or lower(i.materialName) like lower(concat('%', :query, '%')) escape '\\'))) " +
+            "order by po.orderAt desc, po.id desc")
+    List<Long> searchIds(@Param("status") OrderStatus status,
+                         @Param("urgency") UrgencyLevel urgency,
+                         @Param("query") String query,
+                         @Param("from") LocalDateTime from,
+                         @Param("to") LocalDateTime to,
+                         Pageable pageable);
+
+    // 총 건수는 목록 조회와 분리 (건수 전략에 따라 생략/캐시)
+    @Query("select count(po) from PurchaseOrder po " +
+            "where (:status is null or po.status = :status) " +
+            "and po.orderAt >= :from and po.orderAt < :to " +
+            "and (:urgency is null or po.urgency = :urgency) " +
+            "and (:query is null or :query = '' or lower(po.code) like lower(concat('%', :query, '%')) escape '\\' " +
+            "or exists (select 1 from PurchaseOrderItem i where i.purchaseOrder = po " +
+            "and (lower(i.materialCode) like lower(concat('%', :query, '%')) escape '\\' " +
+            "or lower(i.materialName) like lower(concat('%', :query, '%')) escape '\\')))")
+    long countSearch(@Param("status") OrderStatus status,
+                     @Param("urgency") UrgencyLevel urgency,
+                     @Param("query") String query,
+                     @Param("from") LocalDateTime from,
+                     @Param("to") LocalDateTime to);
+
+    /**
+     * 커서(키셋) 조회: (orderAt, id) 가 커서보다 뒤인 행만 seek, OFFSET/COUNT 없음
+     * 첫 페이지는 cursorAt = null
+     */
+    @Query("select po.id from PurchaseOrder po " +
+            "where (:status is null or po.status = :status) " +
+            "and po.orderAt >= :from and po.orderAt < :to " +
+            "and (:urgency is null or po.urgency = :urgency) " +
+            "and (:query is null or :query = '' or lower(po.code) like lower(concat('%', :query, '%')) escape '\\' " +
+            "or exists (select 1 from PurchaseOrderItem i where i.purchaseOrder = po " +
+            "and (lower(i.materialCode) like lower(concat('%', :query, '%')) escape '\\' " +
+            "or lower(i.materialName) like lower(concat('%', :query, '%')) escape '\\'))) " +
+            "and (:cursorAt is null or po.orderAt < :cursorAt or (po.orderAt = :cursorAt and po.id < :cursorId)) " +
+            "order by po.orderAt desc, po.id desc")
+    List<Long> searchIdsAfter(@Param("status") OrderStatus status,
+                              @Param("urgency") UrgencyLevel urgency,
+                              @Param("query") String query,
+                              @Param("from") LocalDateTime from,
+                              @Param("to") LocalDateTime to,
+                              @Param("cursorAt") LocalDateTime cursorAt,
+                              @Param("cursorId") Long cursorId,
+                              Pageable limit);
+
+    /**
+     * 목록 2단계: ID 목록의 주문을 DTO 프로젝션으로 조회 (엔티티 하이드레이션 없음)
+     */
+    @Query("select new com.sampoom.purchase.api.purchase.dto.PurchaseOrderRow(" +
+            "po.id, po.code, po.orderAt, po.requiredAt, po.expectedDeliveryAt, po.factoryId, po.factoryName, " +
+            "po.requesterName, po.urgency, po.expectedAmount, po.status) " +
+            "from PurchaseOrder po where po.id in :ids")
+    List<PurchaseOrderRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 대량 전환에서 실패한 ID 의 사유 구분용 (삭제되지 않은 주문만)
+    @Query("select po.id from PurchaseOrder po where po.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
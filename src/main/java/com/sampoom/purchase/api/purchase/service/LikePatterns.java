@@ -0,0 +1,34 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import java.util.Locale;
+
+/**
+ * 검색어 → LIKE 패턴 (검색어의 %, _ 는 와일드카드가 아닌 글자 그대로 일치)
+ * - 이스케이프 문자는 PostgreSQL LIKE 기본값과 같은 역슬래시
+ * - 인메모리 검색 인덱스(OrderSearchIndex)의 부분 문자열 일치와 결과가 같도록 맞춤
+ */
+final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    static String escape(String query) {
+        if (query == null) {
+            return null;
+        }
+        StringBuilder escaped = new StringBuilder(query.length());
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    // 소문자 부분 일치 패턴 ('%q%')
+    static String contains(String query) {
+        return "%" + escape(query.toLowerCase(Locale.ROOT)) + "%";
+    }
+}
@@ -0,0 +1,158 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderItemDto;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderItemRow;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderResponseDto;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderRow;
+import com.sampoom.purchase.api.purchase.entity.OrderStatus;
+import com.sampoom.purchase.api.purchase.entity.UrgencyLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 아카이브를 포함한 주문 조회
+ * - 상세: hot 테이블에 없을 때 아카이브 테이블에서 찾음
+ * - 목록(includeArchived): hot + 아카이브를 합친 뷰(purchase_order_all / purchase_order_item_all)로 조회
+ * - 소프트 삭제된 주문은 hot 과 마찬가지로 보이지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderArchiveReader {
+
+    private static final String ORDER_SELECT = """
+            SELECT po.purchase_order_id, po.code, po.order_at, po.required_at, po.expected_delivery_at,
+                   po.factory_id, po.factory_name, po.requester_name, po.urgency, po.expected_amount, po.status
+            """;
+    private static final String ITEM_SELECT = """
+            SELECT i.purchase_order_id, i.material_code, i.material_name, i.unit, i.quantity,
+                   i.standard_quantity, i.unit_price, i.lead_time_days
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<PurchaseOrderResponseDto> findArchived(Long orderId) {
+        List<PurchaseOrderRow> rows = jdbcTemplate.query(ORDER_SELECT + """
+                  FROM purchase_order_archive po
+                 WHERE po.purchase_order_id = ? AND po.deleted = false
+                """, (rs, n) -> OrderRows.order(rs), orderId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        List<PurchaseOrderItemDto> items = jdbcTemplate.query(ITEM_SELECT + """
+                  FROM purchase_order_item_archive i
+                 WHERE i.purchase_order_id = ?
+                 ORDER BY i.purchase_order_item_id
+                """, (rs, n) -> OrderRows.item(rs, orderId).toDto(), orderId);
+        return Optional.of(rows.get(0).toResponse(items));
+    }
+
+    /**
+     * hot + 아카이브 목록 1단계 (정렬: orderAt desc, id desc)
+     * @param cursorAt null 이면 offset 사용
+     */
+    public List<Long> searchIds(OrderStatus status, UrgencyLevel urgency, String query,
+                                LocalDateTime from, LocalDateTime to,
+                                LocalDateTime cursorAt, Long cursorId, long offset, int limit) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT po.purchase_order_id FROM purchase_order_all po WHERE true");
+        appendFilter(sql, params, status, urgency, query, from, to);
+        if (cursorAt != null) {
+            sql.append(" AND (po.order_at < ? OR (po.order_at = ? AND po.purchase_order_id < ?))");
+            params.add(Timestamp.valueOf(cursorAt));
+            params.add(Timestamp.valueOf(cursorAt));
+            params.add(cursorId);
+        }
+        sql.append(" ORDER BY po.order_at DESC, po.purchase_order_id DESC LIMIT ? OFFSET ?");
+        params.add(limit);
+        params.add(cursorAt != null ? 0 : offset);
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, params.toArray());
+    }
+
+    public long count(OrderStatus status, UrgencyLevel urgency, String query, LocalDateTime from, LocalDateTime to) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM purchase_order_all po WHERE true");
+        appendFilter(sql, params, status, urgency, query, from, to);
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, params.toArray());
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 목록 2단계: ID 순서대로 응답 구성 (hot/아카이브 어느 쪽이든)
+     */
+    public List<PurchaseOrderResponseDto> loadResponses(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Long[] ids = orderIds.toArray(new Long[0]);
+        PreparedStatementSetter byIds = ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+
+        Map<Long, PurchaseOrderRow> rowsById = new HashMap<>();
+        jdbcTemplate.query(ORDER_SELECT + " FROM purchase_order_all po WHERE po.purchase_order_id = ANY(?)",
+                byIds, (RowCallbackHandler) rs -> {
+                    PurchaseOrderRow row = OrderRows.order(rs);
+                    rowsById.put(row.id(), row);
+                });
+        Map<Long, List<PurchaseOrderItemDto>> itemsByOrderId = new HashMap<>();
+        jdbcTemplate.query(ITEM_SELECT + """
+                  FROM purchase_order_item_all i
+                 WHERE i.purchase_order_id = ANY(?)
+                 ORDER BY i.purchase_order_item_id
+                """, byIds, (RowCallbackHandler) rs -> {
+            PurchaseOrderItemRow item = OrderRows.item(rs, rs.getLong("purchase_order_id"));
+            itemsByOrderId.computeIfAbsent(item.orderId(), id -> new ArrayList<>()).add(item.toDto());
+        });
+
+        return orderIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .map(row -> row.toResponse(itemsByOrderId.getOrDefault(row.id(), Collections.emptyList())))
+                .toList();
+    }
+
+    private static void appendFilter(StringBuilder sql, List<Object> params,
+                                     OrderStatus status, UrgencyLevel urgency, String query,
+                                     LocalDateTime from, LocalDateTime to) {
+        if (status != null) {
+            sql.append(" AND po.status = ?");
+            params.add(status.name());
+        }
+        if (urgency != null) {
+            sql.append(" AND po.urgency = ?");
+            params.add(urgency.name());
+        }
+        // 뷰 안의 hot 테이블까지 조건이 내려가 범위 밖 파티션을 건너뜀
+        if (from != null) {
+            sql.append(" AND po.order_at >= ?");
+            params.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND po.order_at < ?");
+            params.add(Timestamp.valueOf(to));
+        }
+        if (query != null && !query.isEmpty()) {
+            String like = LikePatterns.contains(query);
+            sql.append("""
+                     AND (lower(po.code) LIKE ? OR EXISTS (
+                          SELECT 1 FROM purchase_order_item_all x
+                           WHERE x.purchase_order_id = po.purchase_order_id
+                             AND (lower(x.material_code) LIKE ? OR lower(x.material_name) LIKE ?)))
+                    """);
+            params.add(like);
+            params.add(like);
+            params.add(like);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderResponseDto;
+import com.sampoom.purchase.api.purchase.entity.OrderStatus;
+import com.sampoom.purchase.api.purchase.entity.UrgencyLevel;
+import com.sampoom.purchase.api.purchase.service.PurchaseOrderChangedEvent.ChangeType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주문 아카이브 (hot/cold 분리)
+ * - 종료(RECEIVED/CANCELED) 후 closed-days 가 지난 주문과 소프트 삭제된 주문을 아카이브 테이블로 이동
+ * - 배치마다 짧은 트랜잭션: 대상 주문 잠금(SKIP LOCKED) → 아이템 이동 → 주문 이동, 배치 사이에 쉼
+ * - 배치 사이 대기가 공용 스케줄러 스레드를 막지 않도록 전용 스레드에서 실행
+ * - 아카이브에 복사된 행만 hot 에서 삭제 (ID 충돌 시 hot 사본을 잃지 않음)
+ * - 이동한 주문은 모든 인스턴스의 검색 인덱스에서 빼고, 배치 커밋 시 삭제 변경 이벤트로 건수 캐시를 바로 줄임
+ * - 상세 조회는 아카이브까지 찾으므로(OrderArchiveReader) 호출 측에서는 차이가 없음
+ */
+@Slf4j
+@Component
+public class OrderArchiveService {
+
+    private static final String ORDER_COLUMNS = "purchase_order_id, code, order_at, received_at, canceled_at, required_at, "
+            + "expected_delivery_at, status, factory_id, factory_name, urgency, requester_name, expected_amount, "
+            + "created_at, updated_at, deleted, deleted_at";
+    private static final String ITEM_COLUMNS = "purchase_order_item_id, purchase_order_id, quantity, standard_quantity, "
+            + "material_code, material_name, unit, unit_price, lead_time_days";
+
+    private static final String LOCK_TARGETS_SQL = """
+            SELECT purchase_order_id FROM purchase_order
+             WHERE deleted = true
+                OR (status IN ('RECEIVED', 'CANCELED') AND COALESCE(received_at, canceled_at, updated_at) < ?)
+             ORDER BY purchase_order_id
+             LIMIT ?
+               FOR UPDATE SKIP LOCKED
+            """;
+
+    // 아카이브에 실제로 들어간 행(RETURNING)만 hot 에서 삭제 → 충돌로 건너뛴 행은 hot 에 그대로 남음
+    private static final String MOVE_ITEMS_SQL = """
+            WITH copied AS (
+                INSERT INTO purchase_order_item_archive (%1$s)
+                SELECT %1$s FROM purchase_order_item WHERE purchase_order_id = ANY(?)
+                ON CONFLICT (purchase_order_item_id) DO NOTHING
+                RETURNING purchase_order_item_id)
+            DELETE FROM purchase_order_item
+             WHERE purchase_order_item_id IN (SELECT purchase_order_item_id FROM copied)
+            """.formatted(ITEM_COLUMNS);
+
+    // 아이템이 hot 에 남은 주문은 이동하지 않음 (주문과 아이템이 서로 다른 테이블에 갈라지지 않게)
+    private static final String MOVE_ORDERS_SQL = """
+            WITH copied AS (
+                INSERT INTO purchase_order_archive (%1$s, archived_at)
+                SELECT %1$s, now() FROM purchase_order po
+                 WHERE po.purchase_order_id = ANY(?)
+                   AND NOT EXISTS (SELECT 1 FROM purchase_order_item i
+                                    WHERE i.purchase_order_id = po.purchase_order_id)
+                ON CONFLICT (purchase_order_id) DO NOTHING
+                RETURNING purchase_order_id)
+            DELETE FROM purchase_order
+             WHERE purchase_order_id IN (SELECT purchase_order_id FROM copied)
+            RETURNING purchase_order_id, status, urgency, deleted
+            """.formatted(ORDER_COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderSearchIndex orderSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final long closedDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long batchPauseMs;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "order-archive");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrderArchiveService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               OrderSearchIndex orderSearchIndex,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${purchase.archive.enabled:true}") boolean enabled,
+                               @Value("${purchase.archive.closed-days:90}") long closedDays,
+                               @Value("${purchase.archive.batch-size:500}") int batchSize,
+                               @Value("${purchase.archive.max-batches-per-run:100}") int maxBatchesPerRun,
+                               @Value("${purchase.archive.batch-pause-ms:100}") long batchPauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.orderSearchIndex = orderSearchIndex;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.closedDays = closedDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPauseMs = batchPauseMs;
+    }
+
+    @Scheduled(fixedDelayString = "${purchase.archive.interval-ms:3600000}",
+            initialDelayString = "${purchase.archive.initial-delay-ms:300000}")
+    public void archive() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        executor.submit(this::runArchive);
+    }
+
+    private void runArchive() {
+        long start = System.currentTimeMillis();
+        long archived = 0;
+        try {
+            Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(closedDays));
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Batch batch = transactionTemplate.execute(tx -> moveBatch(cutoff));
+                if (batch == null || batch.locked() == 0) {
+                    break;
+                }
+                if (batch.moved().size() < batch.locked()) {
+                    // 같은 ID 가 이미 아카이브에 있는 경우 (수동 복구 등), hot 행은 지우지 않고 남겨 둠
+                    log.warn("주문 아카이브 충돌로 건너뜀 locked={} moved={}", batch.locked(), batch.moved().size());
+                }
+                orderSearchIndex.removeEverywhere(batch.moved());
+                archived += batch.moved().size();
+                if (batch.locked() < batchSize) {
+                    break;
+                }
+                Thread.sleep(batchPauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("주문 아카이브 실패 cause={}", e.toString());
+        } finally {
+            running.set(false);
+        }
+        if (archived > 0) {
+            log.info("주문 아카이브 archived={} elapsedMs={}", archived, System.currentTimeMillis() - start);
+        }
+    }
+
+    private record Batch(int locked, List<Long> moved) {
+    }
+
+    private record MovedOrder(long id, OrderStatus status, UrgencyLevel urgency, boolean deleted) {
+    }
+
+    private Batch moveBatch(Timestamp cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(LOCK_TARGETS_SQL, Long.class, cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return new Batch(0, ids);
+        }
+        Long[] idArray = ids.toArray(new Long[0]);
+        // 아이템이 주문을 참조하므로 아이템부터 이동
+        jdbcTemplate.update(MOVE_ITEMS_SQL, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", idArray)));
+        List<MovedOrder> moved = jdbcTemplate.query(MOVE_ORDERS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", idArray)),
+                (rs, rowNum) -> new MovedOrder(
+                        rs.getLong("purchase_order_id"),
+                        toEnum(OrderStatus.class, rs.getString("status")),
+                        toEnum(UrgencyLevel.class, rs.getString("urgency")),
+                        rs.getBoolean("deleted")));
+        publishRemoved(moved);
+        return new Batch(ids.size(), moved.stream().map(MovedOrder::id).toList());
+    }
+
+    /**
+     * hot 테이블에서 빠진 주문을 삭제 변경으로 알림 → 커밋 후 건수 캐시 감소, 상세 캐시 무효화
+     * - 소프트 삭제된 주문은 삭제 시점에 이미 건수에서 빠졌으므로 제외
+     */
+    private void publishRemoved(List<MovedOrder> moved) {
+        List<PurchaseOrderChangedEvent> changes = new ArrayList<>();
+        for (MovedOrder order : moved) {
+            if (order.deleted() || order.status() == null) {
+                continue;
+            }
+            PurchaseOrderResponseDto response = PurchaseOrderResponseDto.builder()
+                    .id(order.id())
+                    .status(order.status())
+                    .urgency(order.urgency())
+                    .build();
+            changes.add(new PurchaseOrderChangedEvent(ChangeType.DELETED, order.status(), response));
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new PurchaseOrdersChangedEvent(changes));
+        }
+    }
+
+    private static <E extends Enum<E>> E toEnum(Class<E> type, String value) {
+        return value == null ? null : Enum.valueOf(type, value);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
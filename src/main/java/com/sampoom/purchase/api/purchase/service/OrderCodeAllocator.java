@@ -0,0 +1,94 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.sampoom.purchase.api.purchase.repository.PurchaseOrderCodeCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 코드(PR-yyMMdd-NNN) 발급기
+ * - DB 카운터에서 번호 블록을 예약한 뒤 메모리에서 AtomicLong 으로 하나씩 발급
+ * - 인스턴스마다 서로 다른 블록을 받으므로 인스턴스 간에도 중복 없음
+ * - 재시작 시 쓰지 못한 번호는 버려짐 (번호 공백 허용)
+ * - 블록 예약은 별도 트랜잭션(커넥션)으로 실행되므로 주문 트랜잭션 밖에서 호출해야 함
+ *   (커넥션을 잡은 스레드들이 refill 을 기다리는 동안 예약할 커넥션이 없어 풀이 고갈되는 것을 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCodeAllocator {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyMMdd");
+
+    private final PurchaseOrderCodeCounterRepository counterRepository;
+
+    @Value("${purchase.order-code.block-size:20}")
+    private int blockSize;
+
+    private volatile Block current = Block.EMPTY;
+
+    public String nextCode() {
+        LocalDate today = LocalDate.now();
+        while (true) {
+            Block block = current;
+            if (block.date().equals(today)) {
+                long seq = block.next().getAndIncrement();
+                if (seq <= block.last()) {
+                    return format(today, seq);
+                }
+            }
+            refill(today, block);
+        }
+    }
+
+    /**
+     * count 건의 코드를 블록 하나로 예약해 발급 (대량 등록 청크용)
+     */
+    public List<String> nextCodes(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        if (count == 1) {
+            return List.of(nextCode());
+        }
+        LocalDate today = LocalDate.now();
+        long last = counterRepository.reserveBlock(today, prefix(today), count);
+        List<String> codes = new ArrayList<>(count);
+        for (long seq = last - count + 1; seq <= last; seq++) {
+            codes.add(format(today, seq));
+        }
+        return codes;
+    }
+
+    private synchronized void refill(LocalDate today, Block exhausted) {
+        if (current != exhausted) {
+            return; // 다른 스레드가 이미 새 블록을 받아옴
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            log.warn("주문 코드 블록을 트랜잭션 안에서 예약함 - 커넥션 풀 고갈 위험");
+        }
+        long last = counterRepository.reserveBlock(today, prefix(today), blockSize);
+        current = new Block(today, new AtomicLong(last - blockSize + 1), last);
+        log.debug("주문 코드 블록 예약 date={} range={}~{}", today, last - blockSize + 1, last);
+    }
+
+    private static String prefix(LocalDate date) {
+        return "PR-" + date.format(DATE_FORMAT) + "-";
+    }
+
+    private static String format(LocalDate date, long seq) {
+        return prefix(date) + String.format("%03d", seq);
+    }
+
+    private record Block(LocalDate date, AtomicLong next, long last) {
+        static final Block EMPTY = new Block(LocalDate.MIN, new AtomicLong(1), 0);
+    }
+}
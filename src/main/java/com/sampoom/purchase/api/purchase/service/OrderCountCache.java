@@ -0,0 +1,154 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.sampoom.purchase.api.purchase.entity.OrderStatus;
+import com.sampoom.purchase.api.purchase.entity.UrgencyLevel;
+import com.sampoom.purchase.common.cache.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 주문 목록 총 건수 캐시
+ * - 검색어 없는 조회: 상태 × 긴급도 조합별 건수를 메모리에 유지 (커밋된 상태 전환마다 증감)
+ *   다른 인스턴스의 변경분과 오차는 주기적인 GROUP BY 재집계로 보정
+ * - 검색어 조회: 정확한 COUNT 를 짧은 TTL 로 캐시
+ */
+@Slf4j
+@Component
+public class OrderCountCache {
+
+    public enum Strategy {
+        EXACT,  // 매 요청 COUNT 쿼리
+        CACHED  // 메모리 카운터 / 단기 캐시
+    }
+
+    private static final int URGENCY_SLOTS = UrgencyLevel.values().length + 1; // 마지막 칸은 urgency null
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Strategy strategy;
+    private final BoundedTtlCache<String, Long> queryCounts;
+
+    private volatile AtomicLongArray counts;
+
+    public OrderCountCache(JdbcTemplate jdbcTemplate,
+                           @Value("${purchase.order-count.strategy:CACHED}") Strategy strategy,
+                           @Value("${purchase.order-count.query-ttl-ms:30000}") long queryTtlMs,
+                           @Value("${purchase.order-count.query-cache-size:1000}") int queryCacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.strategy = strategy;
+        this.queryCounts = new BoundedTtlCache<>(queryCacheSize, queryTtlMs);
+    }
+
+    /**
+     * 전략에 따라 총 건수 반환, 캐시에 없으면 exactCount 로 계산
+     */
+    public long count(OrderStatus status, UrgencyLevel urgency, String query, LongSupplier exactCount) {
+        if (strategy == Strategy.EXACT) {
+            return exactCount.getAsLong();
+        }
+        if (query == null || query.isEmpty()) {
+            OptionalLong cached = countByFilter(status, urgency);
+            return cached.isPresent() ? cached.getAsLong() : exactCount.getAsLong();
+        }
+        String key = status + "|" + urgency + "|" + query.toLowerCase(Locale.ROOT);
+        Long cached = queryCounts.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long total = exactCount.getAsLong();
+        queryCounts.put(key, total);
+        return total;
+    }
+
+    private OptionalLong countByFilter(OrderStatus status, UrgencyLevel urgency) {
+        AtomicLongArray snapshot = counts;
+        if (snapshot == null) {
+            return OptionalLong.empty();
+        }
+        long total = 0;
+        for (OrderStatus s : OrderStatus.values()) {
+            if (status != null && s != status) {
+                continue;
+            }
+            for (int u = 0; u < URGENCY_SLOTS; u++) {
+                if (urgency != null && u != urgency.ordinal()) {
+                    continue;
+                }
+                total += snapshot.get(slot(s, u));
+            }
+        }
+        return OptionalLong.of(Math.max(0, total));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrdersChanged(PurchaseOrdersChangedEvent event) {
+        event.changes().forEach(this::onOrderChanged);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderChanged(PurchaseOrderChangedEvent event) {
+        AtomicLongArray snapshot = counts;
+        if (snapshot == null) {
+            return;
+        }
+        int u = urgencySlot(event.order().getUrgency());
+        switch (event.type()) {
+            case CREATED -> snapshot.incrementAndGet(slot(event.order().getStatus(), u));
+            case RECEIVED, CANCELED -> {
+                snapshot.decrementAndGet(slot(event.previousStatus(), u));
+                snapshot.incrementAndGet(slot(event.order().getStatus(), u));
+            }
+            case DELETED -> snapshot.decrementAndGet(slot(event.previousStatus(), u));
+        }
+        queryCounts.invalidateAll(); // 검색어 건수는 짧게만 유지하므로 변경 시 바로 버림
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${purchase.order-count.reconcile-interval-ms:60000}",
+            initialDelayString = "${purchase.order-count.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (strategy == Strategy.EXACT) {
+            return;
+        }
+        try {
+            AtomicLongArray fresh = new AtomicLongArray(OrderStatus.values().length * URGENCY_SLOTS);
+            jdbcTemplate.query("""
+                    SELECT status, urgency, COUNT(*) AS cnt
+                      FROM purchase_order
+                     WHERE deleted = false
+                     GROUP BY status, urgency
+                    """, (RowCallbackHandler) rs -> {
+                String status = rs.getString("status");
+                if (status == null) {
+                    return;
+                }
+                String urgency = rs.getString("urgency");
+                int u = urgencySlot(urgency == null ? null : UrgencyLevel.valueOf(urgency));
+                fresh.addAndGet(slot(OrderStatus.valueOf(status), u), rs.getLong("cnt"));
+            });
+            counts = fresh;
+        } catch (Exception e) {
+            log.warn("주문 건수 재집계 실패 cause={}", e.toString());
+        }
+    }
+
+    private static int urgencySlot(UrgencyLevel urgency) {
+        return urgency == null ? URGENCY_SLOTS - 1 : urgency.ordinal();
+    }
+
+    private static int slot(OrderStatus status, int urgencySlot) {
+        return status.ordinal() * URGENCY_SLOTS + urgencySlot;
+    }
+}
@@ -0,0 +1,214 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sampoom.purchase.api.purchase.dto.OrderCacheStatsDto;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderResponseDto;
+import com.sampoom.purchase.api.purchase.service.PurchaseOrderChangedEvent.ChangeType;
+import com.sampoom.purchase.common.cache.BoundedTtlCache;
+import com.sampoom.purchase.common.cache.OffHeapByteCache;
+import com.sampoom.purchase.common.notify.PgNotificationListener;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 주문 상세 조회 캐시 (read-through)
+ * - 1계층: 힙 캐시 (크기/TTL 제한)
+ * - 2계층: 오프힙 캐시 (JSON 바이트, 바이트 예산 제한) - off-heap-bytes 가 0 이면 사용 안 함
+ * - 취소/입고/삭제가 커밋되면 무효화하고, pg_notify 로 다른 인스턴스에도 전파
+ * - 알림이 유실돼도 TTL 이 지나면 DB 값으로 다시 맞춰짐
+ */
+@Slf4j
+@Component
+public class OrderDetailCache {
+
+    private static final String CHANNEL = "purchase_order_cache";
+    private static final String INVALIDATE_ALL = "*";
+    private static final int MAX_NOTIFY_PAYLOAD = 7000; // pg_notify 페이로드 한도(8000 bytes) 이내
+
+    private final ObjectMapper objectMapper;
+    private final PgNotificationListener notifications;
+    private final boolean enabled;
+    private final BoundedTtlCache<Long, PurchaseOrderResponseDto> heap;
+    private final OffHeapByteCache<Long> offHeap; // null 이면 비활성
+
+    // 조회 중 무효화가 일어나면 읽은 값을 캐시에 넣지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public OrderDetailCache(ObjectMapper objectMapper,
+                            PgNotificationListener notifications,
+                            @Value("${purchase.order-cache.enabled:true}") boolean enabled,
+                            @Value("${purchase.order-cache.heap-size:5000}") int heapSize,
+                            @Value("${purchase.order-cache.ttl-ms:60000}") long ttlMs,
+                            @Value("${purchase.order-cache.off-heap-bytes:0}") long offHeapBytes) {
+        this.objectMapper = objectMapper;
+        this.notifications = notifications;
+        this.enabled = enabled;
+        this.heap = new BoundedTtlCache<>(heapSize, ttlMs);
+        this.offHeap = offHeapBytes > 0 ? new OffHeapByteCache<>(offHeapBytes, ttlMs) : null;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (enabled) {
+            notifications.subscribe(CHANNEL, this::onNotification, this::invalidateLocalAll);
+        }
+    }
+
+    public PurchaseOrderResponseDto get(Long orderId, Supplier<PurchaseOrderResponseDto> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        PurchaseOrderResponseDto cached = heap.get(orderId);
+        if (cached != null) {
+            return cached;
+        }
+        if (offHeap != null) {
+            byte[] bytes = offHeap.get(orderId);
+            if (bytes != null) {
+                PurchaseOrderResponseDto restored = deserialize(bytes);
+                if (restored != null) {
+                    heap.put(orderId, restored);
+                    return restored;
+                }
+            }
+        }
+
+        long startGeneration = generation.get();
+        PurchaseOrderResponseDto loaded = loader.get();
+        loads.increment();
+        if (generation.get() == startGeneration) {
+            heap.put(orderId, loaded);
+            if (offHeap != null) {
+                byte[] bytes = serialize(loaded);
+                if (bytes != null) {
+                    offHeap.put(orderId, bytes);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderChanged(PurchaseOrderChangedEvent event) {
+        if (!enabled || event.type() == ChangeType.CREATED) {
+            return; // 신규 주문은 아직 캐시에 없음
+        }
+        invalidateLocal(event.orderId());
+        notifications.notify(CHANNEL, String.valueOf(event.orderId()));
+    }
+
+    // 대량 전환: 로컬은 건별 무효화, 다른 인스턴스에는 ID 목록을 묶어서 전파
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrdersChanged(PurchaseOrdersChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        StringBuilder payload = new StringBuilder();
+        for (PurchaseOrderChangedEvent change : event.changes()) {
+            if (change.type() == ChangeType.CREATED) {
+                continue;
+            }
+            invalidateLocal(change.orderId());
+            if (payload.length() > MAX_NOTIFY_PAYLOAD) {
+                notifications.notify(CHANNEL, payload.toString());
+                payload.setLength(0);
+            }
+            if (payload.length() > 0) {
+                payload.append(',');
+            }
+            payload.append(change.orderId());
+        }
+        if (payload.length() > 0) {
+            notifications.notify(CHANNEL, payload.toString());
+        }
+    }
+
+    /**
+     * 여러 주문을 한꺼번에 바꾼 경우 (대량 처리/아카이브 등) 전체 무효화
+     */
+    public void invalidateAll() {
+        if (!enabled) {
+            return;
+        }
+        invalidateLocalAll();
+        notifications.notify(CHANNEL, INVALIDATE_ALL);
+    }
+
+    public OrderCacheStatsDto stats() {
+        OrderCacheStatsDto.OrderCacheStatsDtoBuilder builder = OrderCacheStatsDto.builder()
+                .enabled(enabled)
+                .loads(loads.sum())
+                .invalidations(invalidations.sum())
+                .heapEntries(heap.size())
+                .heapHitRate(heap.hitRate())
+                .heapEvictions(heap.evictionCount());
+        if (offHeap != null) {
+            builder.offHeapEntries(offHeap.size())
+                    .offHeapHitRate(offHeap.hitRate())
+                    .offHeapEvictions(offHeap.evictionCount())
+                    .offHeapUsedBytes(offHeap.usedBytes())
+                    .offHeapMaxBytes(offHeap.maxBytes());
+        }
+        return builder.build();
+    }
+
+    private void onNotification(String payload) {
+        if (INVALIDATE_ALL.equals(payload)) {
+            invalidateLocalAll();
+            return;
+        }
+        try {
+            for (String id : payload.split(",")) {
+                invalidateLocal(Long.parseLong(id.trim()));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("주문 캐시 무효화 알림 형식 오류 payload={}", payload);
+        }
+    }
+
+    private void invalidateLocal(Long orderId) {
+        generation.incrementAndGet();
+        heap.invalidate(orderId);
+        if (offHeap != null) {
+            offHeap.invalidate(orderId);
+        }
+        invalidations.increment();
+    }
+
+    private void invalidateLocalAll() {
+        generation.incrementAndGet();
+        heap.invalidateAll();
+        if (offHeap != null) {
+            offHeap.invalidateAll();
+        }
+        invalidations.increment();
+    }
+
+    private byte[] serialize(PurchaseOrderResponseDto dto) {
+        try {
+            return objectMapper.writeValueAsBytes(dto);
+        } catch (Exception e) {
+            log.warn("주문 캐시 직렬화 실패 id={} cause={}", dto.getId(), e.toString());
+            return null;
+        }
+    }
+
+    private PurchaseOrderResponseDto deserialize(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, PurchaseOrderResponseDto.class);
+        } catch (Exception e) {
+            log.warn("주문 캐시 역직렬화 실패 cause={}", e.toString());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderItemDto;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderItemRow;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderRow;
+import com.sampoom.purchase.api.purchase.entity.OrderStatus;
+import com.sampoom.purchase.api.purchase.entity.UrgencyLevel;
+import com.sampoom.purchase.common.exception.BadRequestException;
+import com.sampoom.purchase.common.response.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 주문 대량 내보내기 (NDJSON / CSV)
+ * - 주문+아이템 조인 결과를 JDBC 커서(fetch size)로 순방향 읽기하며 바로 응답 스트림에 기록
+ * - 엔티티/영속성 컨텍스트를 거치지 않고, 메모리에는 현재 주문 한 건의 아이템만 유지
+ */
+@Slf4j
+@Service
+public class OrderExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new BadRequestException(ErrorStatus.INVALID_EXPORT_FORMAT);
+            }
+        }
+    }
+
+    public record ExportFilter(OrderStatus status,
+                               UrgencyLevel urgency,
+                               String query,
+                               LocalDateTime from, // 포함
+                               LocalDateTime to) { // 미포함
+    }
+
+    private static final String CSV_HEADER = "id,orderCode,status,urgency,orderAt,requiredAt,expectedDeliveryAt,"
+            + "factoryId,factoryName,requesterName,expectedAmount,"
+            + "materialCode,materialName,unit,quantity,standardQuantity,unitPrice,leadTimeDays\n";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTx;
+    private final ObjectWriter jsonWriter;
+
+    public OrderExportService(DataSource dataSource,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Value("${purchase.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize); // PostgreSQL 은 autocommit off(트랜잭션) 안에서만 커서로 읽음
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.jsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void export(ExportFilter filter, Format format, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        long[] exported = new long[1];
+        try {
+            if (format == Format.NDJSON) {
+                // 루트 값 구분자(기본 " ")를 없애고 줄바꿈만 직접 기록 → 한 줄에 JSON 하나 (NDJSON)
+                // 응답 스트림은 호출 측이 닫으므로 generator 를 닫아도 스트림은 닫지 않음
+                try (JsonGenerator generator = jsonWriter.getFactory().createGenerator(out)
+                        .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+                        .setRootValueSeparator(null)) {
+                    stream(filter, (order, items) -> {
+                        jsonWriter.writeValue(generator, order.toResponse(toDtos(items)));
+                        generator.writeRaw('\n');
+                        exported[0]++;
+                    });
+                }
+            } else {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                writer.write(CSV_HEADER);
+                stream(filter, (order, items) -> {
+                    writeCsv(writer, order, items);
+                    exported[0]++;
+                });
+                writer.flush();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // 클라이언트 연결 종료 등
+        }
+        log.info("주문 내보내기 완료 format={} orders={} elapsedMs={}",
+                format, exported[0], System.currentTimeMillis() - start);
+    }
+
+    @FunctionalInterface
+    private interface OrderSink {
+        void accept(PurchaseOrderRow order, List<PurchaseOrderItemRow> items) throws IOException;
+    }
+
+    /**
+     * 주문 순서로 정렬된 조인 결과를 읽으며 주문이 바뀔 때마다 sink 로 한 건씩 전달
+     */
+    private void stream(ExportFilter filter, OrderSink sink) {
+        List<Object> params = new ArrayList<>();
+        String sql = buildSql(filter, params);
+
+        readOnlyTx.executeWithoutResult(status -> {
+            PurchaseOrderRow[] current = new PurchaseOrderRow[1];
+            List<PurchaseOrderItemRow> items = new ArrayList<>();
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+                long orderId = rs.getLong("purchase_order_id");
+                if (current[0] != null && current[0].id() != orderId) {
+                    emit(sink, current[0], items);
+                    items.clear();
+                }
+                if (current[0] == null || current[0].id() != orderId) {
+                    current[0] = OrderRows.order(rs);
+                }
+                if (rs.getObject("purchase_order_item_id") != null) {
+                    items.add(OrderRows.item(rs, orderId));
+                }
+            }, params.toArray());
+            if (current[0] != null) {
+                emit(sink, current[0], items);
+            }
+        });
+    }
+
+    private static void emit(OrderSink sink, PurchaseOrderRow order, List<PurchaseOrderItemRow> items) {
+        try {
+            sink.accept(order, items);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 쿼리를 중단하고 커서 정리
+        }
+    }
+
+    private static String buildSql(ExportFilter filter, List<Object> params) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT po.purchase_order_id, po.code, po.order_at, po.required_at, po.expected_delivery_at,
+                       po.factory_id, po.factory_name, po.requester_name, po.urgency, po.expected_amount, po.status,
+                       i.purchase_order_item_id, i.material_code, i.material_name, i.unit, i.quantity,
+                       i.standard_quantity, i.unit_price, i.lead_time_days
+                  FROM purchase_order po
+                  LEFT JOIN purchase_order_item i ON i.purchase_order_id = po.purchase_order_id
+                 WHERE po.deleted = false
+                """);
+        if (filter.status() != null) {
+            sql.append(" AND po.status = ?");
+            params.add(filter.status().name());
+        }
+        if (filter.urgency() != null) {
+            sql.append(" AND po.urgency = ?");
+            params.add(filter.urgency().name());
+        }
+        if (filter.from() != null) {
+            sql.append(" AND po.order_at >= ?");
+            params.add(Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append(" AND po.order_at < ?");
+            params.add(Timestamp.valueOf(filter.to()));
+        }
+        if (filter.query() != null && !filter.query().isEmpty()) {
+            String like = LikePatterns.contains(filter.query());
+            sql.append("""
+                     AND (lower(po.code) LIKE ? OR EXISTS (
+                          SELECT 1 FROM purchase_order_item x
+                           WHERE x.purchase_order_id = po.purchase_order_id
+                             AND (lower(x.material_code) LIKE ? OR lower(x.material_name) LIKE ?)))
+                    """);
+            params.add(like);
+            params.add(like);
+            params.add(like);
+        }
+        sql.append(" ORDER BY po.order_at DESC, po.purchase_order_id DESC, i.purchase_order_item_id");
+        return sql.toString();
+    }
+
+    private static List<PurchaseOrderItemDto> toDtos(List<PurchaseOrderItemRow> items) {
+        return items.stream().map(PurchaseOrderItemRow::toDto).toList();
+    }
+
+    // 주문 한 건당 아이템 수만큼 행 (아이템이 없으면 주문 정보만 한 행)
+    private static void writeCsv(Writer writer, PurchaseOrderRow order, List<PurchaseOrderItemRow> items)
+            throws IOException {
+        String orderColumns = String.join(",",
+                csv(order.id()), csv(order.code()), csv(order.status()), csv(order.urgency()),
+                csv(order.orderAt()), csv(order.requiredAt()), csv(order.expectedDeliveryAt()),
+                csv(order.factoryId()), csv(order.factoryName()), csv(order.requesterName()),
+                csv(order.expectedAmount()));
+        if (items.isEmpty()) {
+            writer.write(orderColumns);
+            writer.write(",,,,,,,\n");
+            return;
+        }
+        for (PurchaseOrderItemRow item : items) {
+            writer.write(orderColumns);
+            writer.write(',');
+            writer.write(String.join(",",
+                    csv(item.materialCode()), csv(item.materialName()), csv(item.unit()),
+                    csv(item.quantity()), csv(item.standardQuantity()), csv(item.unitPrice()),
+                    csv(item.leadTimeDays())));
+            writer.write('\n');
+        }
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String s = value instanceof BigDecimal d ? d.toPlainString() : value.toString();
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            return s;
+        }
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+}
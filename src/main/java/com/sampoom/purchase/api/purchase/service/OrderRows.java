@@ -0,0 +1,53 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderItemRow;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderRow;
+import com.sampoom.purchase.api.purchase.entity.OrderStatus;
+import com.sampoom.purchase.api.purchase.entity.UrgencyLevel;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * JDBC 결과 → 주문/아이템 프로젝션 변환 (컬럼명은 테이블 컬럼명 그대로)
+ */
+final class OrderRows {
+
+    private OrderRows() {
+    }
+
+    static PurchaseOrderRow order(ResultSet rs) throws SQLException {
+        String urgency = rs.getString("urgency");
+        String status = rs.getString("status");
+        return new PurchaseOrderRow(
+                rs.getLong("purchase_order_id"),
+                rs.getString("code"),
+                toLocalDateTime(rs.getTimestamp("order_at")),
+                toLocalDateTime(rs.getTimestamp("required_at")),
+                toLocalDateTime(rs.getTimestamp("expected_delivery_at")),
+                rs.getObject("factory_id", Long.class),
+                rs.getString("factory_name"),
+                rs.getString("requester_name"),
+                urgency == null ? null : UrgencyLevel.valueOf(urgency),
+                rs.getBigDecimal("expected_amount"),
+                status == null ? null : OrderStatus.valueOf(status));
+    }
+
+    static PurchaseOrderItemRow item(ResultSet rs, long orderId) throws SQLException {
+        return new PurchaseOrderItemRow(
+                orderId,
+                rs.getString("material_code"),
+                rs.getString("material_name"),
+                rs.getString("unit"),
+                rs.getObject("quantity", Long.class),
+                rs.getObject("standard_quantity", Long.class),
+                rs.getBigDecimal("unit_price"),
+                rs.getObject("lead_time_days", Integer.class));
+    }
+
+    static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
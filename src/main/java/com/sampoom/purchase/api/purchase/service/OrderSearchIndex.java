@@ -0,0 +1,586 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderItemDto;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderResponseDto;
+import com.sampoom.purchase.api.purchase.entity.OrderStatus;
+import com.sampoom.purchase.api.purchase.entity.UrgencyLevel;
+import com.sampoom.purchase.common.notify.PgNotificationListener;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * 주문 검색용 인메모리 트라이그램(3-gram) 인덱스
+ * - 대상: 주문 코드, 아이템 자재 코드/자재명 (소문자 부분 일치 → DB 검색의 LIKE '%q%' 와 같은 의미,
+ *   검색어의 %, _ 는 양쪽 모두 글자 그대로 일치: LikePatterns)
+ * - 트라이그램 → 주문 ID 목록으로 후보를 좁힌 뒤 원문 포함 여부로 최종 확인
+ * - 상태/긴급도 필터, 정렬(orderAt DESC, id DESC), 페이징은 메모리에서 처리
+ * - 기동 시 전체 재구축, 이후 커밋된 상태 전환 이벤트 + 주기적 DB 델타 동기화(다른 인스턴스 변경분)로 유지
+ * - 행이 사라지는 제거(아카이브/파티션 분리)는 델타 동기화로 보이지 않으므로 pg_notify 로 전파 (removeEverywhere)
+ */
+@Slf4j
+@Component
+public class OrderSearchIndex {
+
+    private static final String REMOVE_CHANNEL = "purchase_order_search_remove";
+    private static final int MAX_NOTIFY_PAYLOAD = 7000; // pg_notify 페이로드 한도(8000 bytes) 이내
+    private static final char FIELD_SEPARATOR = '\u0000';
+    private static final int GRAM = 3;
+    private static final int COMPACTION_CHUNK = 256; // 쓰기 락 한 번에 정리할 포스팅 목록 수
+
+    private static final String SELECT_COLUMNS = """
+            SELECT po.purchase_order_id, po.code, po.status, po.urgency, po.order_at, po.deleted,
+                   i.material_code, i.material_name
+              FROM purchase_order po
+              LEFT JOIN purchase_order_item i ON i.purchase_order_id = po.purchase_order_id
+            """;
+    private static final String FULL_SCAN_SQL = SELECT_COLUMNS + " WHERE po.deleted = false";
+    private static final String DELTA_SQL = SELECT_COLUMNS + " WHERE po.updated_at >= ?";
+
+    private static final Comparator<OrderDoc> NEWEST_FIRST = Comparator
+            .comparing((OrderDoc d) -> d.orderAt, Comparator.nullsFirst(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(d -> d.id, Comparator.<Long>reverseOrder());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTx;
+    private final PgNotificationListener notifications;
+    private final boolean enabled;
+    private final Duration syncOverlap;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, OrderDoc> docs = new HashMap<>();
+    private Map<Long, LongList> postings = new HashMap<>();
+    private Map<Long, OrderDoc> removed = new HashMap<>(); // 포스팅이 아직 남아 있는 제거된 주문
+
+    private volatile boolean ready;
+    private volatile LocalDateTime syncedUntil;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public OrderSearchIndex(DataSource dataSource,
+                            PlatformTransactionManager transactionManager,
+                            PgNotificationListener notifications,
+                            @Value("${purchase.search.index.enabled:true}") boolean enabled,
+                            @Value("${purchase.search.index.fetch-size:5000}") int fetchSize,
+                            @Value("${purchase.search.index.sync-overlap-seconds:60}") long syncOverlapSeconds) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize); // 커서 단위로 읽어 전체 결과를 한 번에 올리지 않음
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.notifications = notifications;
+        this.enabled = enabled;
+        this.syncOverlap = Duration.ofSeconds(syncOverlapSeconds);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (enabled) {
+            // 재연결 동안 놓친 제거는 알 수 없으므로 전체 재구축
+            notifications.subscribe(REMOVE_CHANNEL, this::onRemoveNotification, this::rebuildAsync);
+        }
+    }
+
+    public record SearchResult(List<Long> orderIds, long total) {
+    }
+
+    /**
+     * @return 인덱스가 준비되지 않았으면 empty → 호출 측은 DB 검색으로 대체
+     */
+    public Optional<SearchResult> search(OrderStatus status, UrgencyLevel urgency, String query, int page, int size) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        List<OrderDoc> matched = match(status, urgency, query);
+        int from = (int) Math.min((long) page * size, matched.size());
+        int to = Math.min(from + size, matched.size());
+        List<Long> ids = new ArrayList<>(to - from);
+        for (OrderDoc doc : matched.subList(from, to)) {
+            ids.add(doc.id);
+        }
+        return Optional.of(new SearchResult(ids, matched.size()));
+    }
+
+    /**
+     * 커서 조회: 정렬 순서상 (cursorAt, cursorId) 뒤에 오는 주문 ID 를 최대 limit 개
+     */
+    public Optional<List<Long>> searchAfter(OrderStatus status, UrgencyLevel urgency, String query,
+                                            LocalDateTime cursorAt, Long cursorId, int limit) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        List<Long> ids = new ArrayList<>(limit);
+        for (OrderDoc doc : match(status, urgency, query)) {
+            if (cursorAt != null && !isAfter(doc, cursorAt, cursorId)) {
+                continue;
+            }
+            ids.add(doc.id);
+            if (ids.size() == limit) {
+                break;
+            }
+        }
+        return Optional.of(ids);
+    }
+
+    private static boolean isAfter(OrderDoc doc, LocalDateTime cursorAt, long cursorId) {
+        if (doc.orderAt == null) {
+            return false;
+        }
+        int cmp = doc.orderAt.compareTo(cursorAt);
+        return cmp < 0 || (cmp == 0 && doc.id < cursorId);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    private List<OrderDoc> match(OrderStatus status, UrgencyLevel urgency, String query) {
+        String q = query.toLowerCase(Locale.ROOT);
+        List<OrderDoc> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (q.length() < GRAM) {
+                for (OrderDoc doc : docs.values()) {
+                    if (doc.matches(status, urgency, q)) {
+                        result.add(doc);
+                    }
+                }
+            } else {
+                // 가장 짧은 포스팅 목록을 후보로 사용
+                LongList candidates = null;
+                for (long gram : trigrams(q)) {
+                    LongList list = postings.get(gram);
+                    if (list == null) {
+                        return List.of();
+                    }
+                    if (candidates == null || list.size < candidates.size) {
+                        candidates = list;
+                    }
+                }
+                for (int i = 0; i < candidates.size; i++) {
+                    OrderDoc doc = docs.get(candidates.values[i]);
+                    if (doc != null && doc.matches(status, urgency, q)) {
+                        result.add(doc);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        result.sort(NEWEST_FIRST);
+        return result;
+    }
+
+    // ===== 변경 반영 =====
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderChanged(PurchaseOrderChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        switch (event.type()) {
+            case CREATED, RECEIVED, CANCELED -> upsert(List.of(toDoc(event.order())));
+            case DELETED -> remove(List.of(event.orderId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrdersChanged(PurchaseOrdersChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        List<OrderDoc> changed = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        for (PurchaseOrderChangedEvent change : event.changes()) {
+            if (change.type() == PurchaseOrderChangedEvent.ChangeType.DELETED) {
+                removed.add(change.orderId());
+            } else {
+                changed.add(toDoc(change.order()));
+            }
+        }
+        if (!changed.isEmpty()) {
+            upsert(changed);
+        }
+        if (!removed.isEmpty()) {
+            remove(removed);
+        }
+    }
+
+    public void remove(Collection<Long> orderIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long id : orderIds) {
+                OrderDoc doc = docs.remove(id);
+                if (doc != null) {
+                    removed.put(id, doc); // 포스팅은 지연 삭제 (조회 시 docs 로 걸러짐)
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 에서 행이 사라진 주문 제거 (아카이브 이동, 파티션 분리)
+     * - 델타 동기화는 남아 있는 행만 읽으므로 다른 인스턴스에는 ID 목록을 묶어서 전파
+     */
+    public void removeEverywhere(Collection<Long> orderIds) {
+        if (!enabled || orderIds.isEmpty()) {
+            return;
+        }
+        remove(orderIds);
+        StringBuilder payload = new StringBuilder();
+        for (Long id : orderIds) {
+            if (payload.length() > MAX_NOTIFY_PAYLOAD) {
+                notifications.notify(REMOVE_CHANNEL, payload.toString());
+                payload.setLength(0);
+            }
+            if (payload.length() > 0) {
+                payload.append(',');
+            }
+            payload.append(id);
+        }
+        notifications.notify(REMOVE_CHANNEL, payload.toString());
+    }
+
+    private void onRemoveNotification(String payload) {
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (String id : payload.split(",")) {
+                ids.add(Long.parseLong(id.trim()));
+            }
+            remove(ids);
+        } catch (NumberFormatException e) {
+            log.warn("검색 인덱스 제거 알림 형식 오류 payload={}", payload);
+        }
+    }
+
+    private void upsert(Collection<OrderDoc> changed) {
+        lock.writeLock().lock();
+        try {
+            for (OrderDoc doc : changed) {
+                OrderDoc existing = docs.get(doc.id);
+                if (existing != null) {
+                    existing.status = doc.status; // 검색 대상 텍스트는 생성 후 바뀌지 않음
+                } else {
+                    // 제거 후 다시 들어온 주문은 남아 있던 포스팅을 먼저 걷어내야 중복이 쌓이지 않음
+                    OrderDoc stale = removed.remove(doc.id);
+                    if (stale != null) {
+                        removePostings(postings, stale);
+                    }
+                    docs.put(doc.id, doc);
+                    addPostings(postings, doc);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===== 재구축 / 동기화 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        rebuildAsync();
+    }
+
+    private void rebuildAsync() {
+        Thread thread = new Thread(this::rebuild, "order-search-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime since = LocalDateTime.now().minus(syncOverlap);
+
+            DocCollector collector = new DocCollector();
+            readOnlyTx.executeWithoutResult(tx -> jdbcTemplate.query(FULL_SCAN_SQL, collector));
+
+            Map<Long, OrderDoc> newDocs = new HashMap<>();
+            Map<Long, LongList> newPostings = new HashMap<>();
+            for (OrderDoc doc : collector.docs()) {
+                newDocs.put(doc.id, doc);
+                addPostings(newPostings, doc);
+            }
+
+            lock.writeLock().lock();
+            try {
+                docs = newDocs;
+                postings = newPostings;
+                removed = new HashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            syncedUntil = since;
+            ready = true;
+            log.info("주문 검색 인덱스 재구축 완료 orders={} grams={} elapsedMs={}",
+                    newDocs.size(), newPostings.size(), System.currentTimeMillis() - startedAt);
+
+            syncDelta(); // 재구축 중 변경분 반영
+        } catch (Exception e) {
+            log.error("주문 검색 인덱스 재구축 실패 cause={}", e.toString(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 커밋된 변경분 반영 (updated_at 기준, 커밋 지연 대비 overlap 만큼 겹쳐 읽음)
+     */
+    @Scheduled(fixedDelayString = "${purchase.search.index.sync-interval-ms:5000}")
+    public void syncDelta() {
+        if (!isReady()) {
+            return;
+        }
+        LocalDateTime from = syncedUntil;
+        LocalDateTime next = LocalDateTime.now().minus(syncOverlap);
+
+        DocCollector collector = new DocCollector();
+        readOnlyTx.executeWithoutResult(tx ->
+                jdbcTemplate.query(DELTA_SQL, collector, Timestamp.valueOf(from)));
+
+        upsert(collector.docs());
+        remove(collector.deletedIds());
+        if (next.isAfter(from)) {
+            syncedUntil = next;
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * 제거된 주문의 포스팅 정리
+     * - 제거된 주문의 트라이그램이 걸린 목록만, COMPACTION_CHUNK 개씩 짧게 쓰기 락을 잡고 정리 (검색을 오래 막지 않음)
+     * - 정리 도중 다시 들어온 주문은 docs 에 있으므로 남기고, upsert 가 자기 포스팅을 직접 정리
+     */
+    private void compactIfNeeded() {
+        List<OrderDoc> targets;
+        lock.readLock().lock();
+        try {
+            if (removed.size() < Math.max(1000, docs.size() / 4)) {
+                return;
+            }
+            targets = new ArrayList<>(removed.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Set<Long> grams = new HashSet<>();
+        Set<Long> ids = new HashSet<>();
+        for (OrderDoc doc : targets) {
+            grams.addAll(trigrams(doc.text));
+            ids.add(doc.id);
+        }
+
+        Iterator<Long> it = grams.iterator();
+        while (it.hasNext()) {
+            lock.writeLock().lock();
+            try {
+                for (int i = 0; i < COMPACTION_CHUNK && it.hasNext(); i++) {
+                    long gram = it.next();
+                    LongList list = postings.get(gram);
+                    if (list == null) {
+                        continue;
+                    }
+                    list.removeIf(id -> ids.contains(id) && !docs.containsKey(id));
+                    if (list.size == 0) {
+                        postings.remove(gram);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (OrderDoc doc : targets) {
+                removed.remove(doc.id, doc); // 정리 중 다시 제거된 주문(다른 인스턴스)은 다음 컴팩션 대상으로 남김
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===== 내부 구조 =====
+
+    private static void addPostings(Map<Long, LongList> target, OrderDoc doc) {
+        for (long gram : trigrams(doc.text)) {
+            target.computeIfAbsent(gram, g -> new LongList()).add(doc.id);
+        }
+    }
+
+    private static void removePostings(Map<Long, LongList> target, OrderDoc doc) {
+        for (long gram : trigrams(doc.text)) {
+            LongList list = target.get(gram);
+            if (list == null) {
+                continue;
+            }
+            list.removeIf(id -> id == doc.id);
+            if (list.size == 0) {
+                target.remove(gram);
+            }
+        }
+    }
+
+    private static Set<Long> trigrams(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            char a = text.charAt(i);
+            char b = text.charAt(i + 1);
+            char c = text.charAt(i + 2);
+            if (a == FIELD_SEPARATOR || b == FIELD_SEPARATOR || c == FIELD_SEPARATOR) {
+                continue; // 필드 경계를 넘는 트라이그램은 제외
+            }
+            grams.add(((long) a << 32) | ((long) b << 16) | c);
+        }
+        return grams;
+    }
+
+    private static OrderDoc toDoc(PurchaseOrderResponseDto order) {
+        StringBuilder text = new StringBuilder();
+        appendField(text, order.getOrderCode());
+        if (order.getItems() != null) {
+            for (PurchaseOrderItemDto item : order.getItems()) {
+                appendField(text, item.getMaterialCode());
+                appendField(text, item.getMaterialName());
+            }
+        }
+        return new OrderDoc(order.getId(), order.getStatus(), order.getUrgency(), order.getOrderAt(), text.toString());
+    }
+
+    private static void appendField(StringBuilder text, String value) {
+        if (value == null) {
+            return;
+        }
+        if (!text.isEmpty()) {
+            text.append(FIELD_SEPARATOR);
+        }
+        text.append(value.toLowerCase(Locale.ROOT));
+    }
+
+    private static <E extends Enum<E>> E toEnum(Class<E> type, String value) {
+        return value == null ? null : Enum.valueOf(type, value);
+    }
+
+    private static final class OrderDoc {
+        private final long id;
+        private OrderStatus status;
+        private final UrgencyLevel urgency;
+        private final LocalDateTime orderAt;
+        private final String text; // 소문자, 필드 구분자로 연결
+
+        private OrderDoc(long id, OrderStatus status, UrgencyLevel urgency, LocalDateTime orderAt, String text) {
+            this.id = id;
+            this.status = status;
+            this.urgency = urgency;
+            this.orderAt = orderAt;
+            this.text = text;
+        }
+
+        private boolean matches(OrderStatus status, UrgencyLevel urgency, String lowerQuery) {
+            return (status == null || this.status == status)
+                    && (urgency == null || this.urgency == urgency)
+                    && text.contains(lowerQuery);
+        }
+    }
+
+    /**
+     * 주문 + 아이템 조인 결과를 주문 단위 문서로 모음
+     */
+    private static final class DocCollector implements RowCallbackHandler {
+        private final Map<Long, DocBuilder> builders = new LinkedHashMap<>();
+        private final Set<Long> deletedIds = new LinkedHashSet<>();
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("purchase_order_id");
+            if (rs.getBoolean("deleted")) {
+                deletedIds.add(id);
+                return;
+            }
+            DocBuilder builder = builders.get(id);
+            if (builder == null) {
+                Timestamp orderAt = rs.getTimestamp("order_at");
+                builder = new DocBuilder(id,
+                        toEnum(OrderStatus.class, rs.getString("status")),
+                        toEnum(UrgencyLevel.class, rs.getString("urgency")),
+                        orderAt == null ? null : orderAt.toLocalDateTime());
+                appendField(builder.text(), rs.getString("code"));
+                builders.put(id, builder);
+            }
+            appendField(builder.text(), rs.getString("material_code"));
+            appendField(builder.text(), rs.getString("material_name"));
+        }
+
+        private List<OrderDoc> docs() {
+            List<OrderDoc> result = new ArrayList<>(builders.size());
+            for (DocBuilder b : builders.values()) {
+                result.add(new OrderDoc(b.id(), b.status(), b.urgency(), b.orderAt(), b.text().toString()));
+            }
+            return result;
+        }
+
+        private Set<Long> deletedIds() {
+            return deletedIds;
+        }
+    }
+
+    private record DocBuilder(long id, OrderStatus status, UrgencyLevel urgency, LocalDateTime orderAt,
+                              StringBuilder text) {
+        private DocBuilder(long id, OrderStatus status, UrgencyLevel urgency, LocalDateTime orderAt) {
+            this(id, status, urgency, orderAt, new StringBuilder());
+        }
+    }
+
+    /**
+     * 박싱 없는 주문 ID 포스팅 목록 (삭제는 재추가 시 또는 컴팩션 때 제자리에서 처리)
+     */
+    private static final class LongList {
+        private long[] values = new long[4];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void removeIf(LongPredicate filter) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!filter.test(values[i])) {
+                    values[kept++] = values[i];
+                }
+            }
+            size = kept;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderItemRow;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderResponseDto;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderRow;
+import com.sampoom.purchase.api.purchase.entity.OrderStatus;
+import com.sampoom.purchase.api.purchase.entity.PurchaseOrder;
+import com.sampoom.purchase.api.purchase.entity.PurchaseOrderItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 주문 상태 전환 (compare-and-set)
+ * - ORDERED 인 경우에만 바꾸는 조건부 UPDATE 한 문장으로 확인과 변경을 함께 수행 → 동시 요청 중 하나만 성공
+ * - 같은 문장에서 RETURNING 결과에 아이템을 조인해 이벤트/응답 구성에 필요한 값을 한 번에 읽음
+ * - 대량 입고/취소도 같은 문장을 ID 배열로 한 번 실행
+ * - 엔티티를 영속성 컨텍스트에 올리지 않으므로 updated_at 도 직접 갱신
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatusTransitions {
+
+    private static final String TRANSITION_SQL = """
+            WITH updated AS (
+                UPDATE purchase_order
+                   SET status = ?, %s = ?, updated_at = ?
+                 WHERE purchase_order_id = ANY(?) AND status = 'ORDERED' AND deleted = false
+             RETURNING purchase_order_id, code, order_at, received_at, canceled_at, required_at,
+                       expected_delivery_at, factory_id, factory_name, requester_name, urgency,
+                       expected_amount, status)
+            SELECT u.*, i.purchase_order_item_id, i.material_code, i.material_name, i.unit, i.quantity,
+                   i.standard_quantity, i.unit_price, i.lead_time_days
+              FROM updated u
+              LEFT JOIN purchase_order_item i ON i.purchase_order_id = u.purchase_order_id
+             ORDER BY u.purchase_order_id, i.purchase_order_item_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전환된 주문 (이벤트 기록용 엔티티 사본 + 응답)
+     */
+    public record Transitioned(PurchaseOrder order, PurchaseOrderResponseDto response) {
+    }
+
+    /**
+     * ORDERED → target (RECEIVED / CANCELED)
+     * @return 전환하지 못했으면(없음/삭제됨/이미 처리됨) empty
+     */
+    public Optional<Transitioned> fromOrdered(Long orderId, OrderStatus target) {
+        return fromOrdered(List.of(orderId), target).stream().findFirst();
+    }
+
+    /**
+     * 여러 주문을 한 문장으로 전환 (purchase_order_id = ANY(?))
+     * @return 실제로 전환된 주문만, 주문 ID 순
+     */
+    public List<Transitioned> fromOrdered(Collection<Long> orderIds, OrderStatus target) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        Timestamp at = Timestamp.valueOf(LocalDateTime.now());
+        Long[] ids = orderIds.toArray(new Long[0]);
+        Map<Long, Accumulator> byOrder = new LinkedHashMap<>();
+
+        jdbcTemplate.query(TRANSITION_SQL.formatted(timestampColumn(target)), (PreparedStatementSetter) ps -> {
+            ps.setString(1, target.name());
+            ps.setTimestamp(2, at);
+            ps.setTimestamp(3, at);
+            ps.setArray(4, ps.getConnection().createArrayOf("bigint", ids));
+        }, (RowCallbackHandler) rs -> {
+            long orderId = rs.getLong("purchase_order_id");
+            Accumulator acc = byOrder.get(orderId);
+            if (acc == null) {
+                acc = new Accumulator(rs);
+                byOrder.put(orderId, acc);
+            }
+            if (rs.getObject("purchase_order_item_id") != null) {
+                acc.add(OrderRows.item(rs, orderId));
+            }
+        });
+
+        List<Transitioned> result = new ArrayList<>(byOrder.size());
+        byOrder.values().forEach(acc -> result.add(acc.toTransitioned()));
+        return result;
+    }
+
+    private static final class Accumulator {
+        private final PurchaseOrderRow row;
+        private final PurchaseOrder order;
+        private final List<PurchaseOrderItemRow> items = new ArrayList<>();
+        private final List<PurchaseOrderItem> itemEntities = new ArrayList<>();
+
+        private Accumulator(ResultSet rs) throws SQLException {
+            this.row = OrderRows.order(rs);
+            this.order = toEntity(rs, row, itemEntities);
+        }
+
+        private void add(PurchaseOrderItemRow item) {
+            items.add(item);
+            itemEntities.add(toEntity(item, order));
+        }
+
+        private Transitioned toTransitioned() {
+            return new Transitioned(order, row.toResponse(items.stream().map(PurchaseOrderItemRow::toDto).toList()));
+        }
+    }
+
+    private static String timestampColumn(OrderStatus target) {
+        return switch (target) {
+            case RECEIVED -> "received_at";
+            case CANCELED -> "canceled_at";
+            default -> throw new IllegalArgumentException("Unsupported transition target: " + target);
+        };
+    }
+
+    // 아웃박스 이벤트 구성용 사본 (영속 상태 아님)
+    private static PurchaseOrder toEntity(ResultSet rs, PurchaseOrderRow row, List<PurchaseOrderItem> items)
+            throws SQLException {
+        return PurchaseOrder.builder()
+                .id(row.id())
+                .code(row.code())
+                .factoryId(row.factoryId())
+                .factoryName(row.factoryName())
+                .status(row.status())
+                .orderAt(row.orderAt())
+                .receivedAt(OrderRows.toLocalDateTime(rs.getTimestamp("received_at")))
+                .canceledAt(OrderRows.toLocalDateTime(rs.getTimestamp("canceled_at")))
+                .requiredAt(row.requiredAt())
+                .expectedDeliveryAt(row.expectedDeliveryAt())
+                .requesterName(row.requesterName())
+                .expectedAmount(row.expectedAmount())
+                .urgency(row.urgency())
+                .items(items)
+                .build();
+    }
+
+    private static PurchaseOrderItem toEntity(PurchaseOrderItemRow item, PurchaseOrder order) {
+        return PurchaseOrderItem.builder()
+                .purchaseOrder(order)
+                .materialCode(item.materialCode())
+                .materialName(item.materialName())
+                .unit(item.unit())
+                .quantity(item.quantity())
+                .standardQuantity(item.standardQuantity())
+                .unitPrice(item.unitPrice())
+                .leadTimeDays(item.leadTimeDays())
+                .orderAt(order.getOrderAt())
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.sampoom.purchase.api.purchase.dto.BulkOrderResponseDto;
+import com.sampoom.purchase.api.purchase.dto.BulkOrderResultDto;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderRequestDto;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderResponseDto;
+import com.sampoom.purchase.api.purchase.repository.PurchaseOrderRepository;
+import com.sampoom.purchase.common.exception.BadRequestException;
+import com.sampoom.purchase.common.exception.BaseException;
+import com.sampoom.purchase.common.idempotency.IdempotencyService;
+import com.sampoom.purchase.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 주문 등록 (MRP 일괄 발주)
+ * - 요청을 청크 단위로 나누어 청크마다 트랜잭션 하나로 저장
+ * - 검증 실패 건은 건너뛰고, 청크 저장이 실패하면 그 청크의 주문만 실패 처리
+ * - 청크마다 Idempotency-Key 선점을 연장 (전체가 lease 보다 오래 걸려도 다른 인스턴스가 다시 실행하지 않음)
+ * 대량 입고/취소 (하역 일괄 처리)
+ * - 주문 ID 목록을 조건부 UPDATE 한 문장으로 전환하고 ID 별 결과 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchaseBulkService {
+
+    private final PurchaseService purchaseService;
+    private final PurchaseOrderRepository orderRepository;
+    private final IdempotencyService idempotencyService;
+
+    @Value("${purchase.bulk.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${purchase.bulk.max-orders:10000}")
+    private int maxOrders;
+
+    @Value("${purchase.bulk.max-transition-orders:1000}")
+    private int maxTransitionOrders;
+
+    public BulkOrderResponseDto createMaterialOrders(List<PurchaseOrderRequestDto> requestDtos) {
+        if (requestDtos == null || requestDtos.size() > maxOrders) {
+            throw new BadRequestException(ErrorStatus.INVALID_INPUT_VALUE);
+        }
+
+        long startedAt = System.nanoTime();
+        List<BulkOrderResultDto> results = new ArrayList<>(requestDtos.size());
+
+        for (int from = 0; from < requestDtos.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, requestDtos.size());
+            processChunk(requestDtos, from, to, results);
+            idempotencyService.renewLease();
+        }
+        results.sort(Comparator.comparingInt(BulkOrderResultDto::getIndex));
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        int succeeded = (int) results.stream().filter(BulkOrderResultDto::isSuccess).count();
+        double ordersPerSecond = elapsedMs == 0 ? succeeded : succeeded * 1000.0 / elapsedMs;
+        log.info("대량 주문 등록 requested={} succeeded={} elapsedMs={} ordersPerSecond={}",
+                requestDtos.size(), succeeded, elapsedMs, String.format("%.1f", ordersPerSecond));
+
+        return BulkOrderResponseDto.builder()
+                .requested(requestDtos.size())
+                .succeeded(succeeded)
+                .failed(requestDtos.size() - succeeded)
+                .elapsedMs(elapsedMs)
+                .ordersPerSecond(ordersPerSecond)
+                .results(results)
+                .build();
+    }
+
+    private void processChunk(List<PurchaseOrderRequestDto> requestDtos, int from, int to,
+                              List<BulkOrderResultDto> results) {
+        List<Integer> indexes = new ArrayList<>(to - from);
+        List<PurchaseOrderRequestDto> valid = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            PurchaseOrderRequestDto dto = requestDtos.get(i);
+            if (isValid(dto)) {
+                indexes.add(i);
+                valid.add(dto);
+            } else {
+                results.add(failure(i, ErrorStatus.INVALID_INPUT_VALUE.getCode(),
+                        ErrorStatus.INVALID_INPUT_VALUE.getMessage()));
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<PurchaseOrderResponseDto> created = purchaseService.createMaterialOrders(valid);
+            for (int i = 0; i < created.size(); i++) {
+                results.add(BulkOrderResultDto.builder()
+                        .index(indexes.get(i))
+                        .success(true)
+                        .order(created.get(i))
+                        .build());
+            }
+        } catch (BaseException e) {
+            indexes.forEach(i -> results.add(failure(i, e.getErrorCode(), e.getResponseMessage())));
+        } catch (RuntimeException e) {
+            log.error("대량 주문 등록 청크 실패 range={}~{} cause={}", from, to - 1, e.toString(), e);
+            indexes.forEach(i -> results.add(failure(i, ErrorStatus.INTERNAL_SERVER_ERROR.getCode(),
+                    ErrorStatus.INTERNAL_SERVER_ERROR.getMessage())));
+        }
+    }
+
+    public BulkOrderResponseDto receiveOrders(List<Long> orderIds) {
+        return transitionOrders(orderIds, "입고", purchaseService::receiveOrders);
+    }
+
+    public BulkOrderResponseDto cancelOrders(List<Long> orderIds) {
+        return transitionOrders(orderIds, "취소", purchaseService::cancelOrders);
+    }
+
+    /**
+     * 대량 입고/취소: 전체를 트랜잭션 하나(조건부 UPDATE 한 문장)로 처리하고 ID 별 결과 반환
+     * - 전환되지 않은 ID 는 존재 여부로 NOT_FOUND / ORDER_ALREADY_PROCESSED 구분
+     * - 같은 ID 가 여러 번 오면 모두 같은 결과
+     */
+    private BulkOrderResponseDto transitionOrders(List<Long> orderIds, String action,
+                                                  Function<Collection<Long>, List<PurchaseOrderResponseDto>> transition) {
+        if (orderIds == null || orderIds.isEmpty() || orderIds.size() > maxTransitionOrders
+                || orderIds.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException(ErrorStatus.INVALID_INPUT_VALUE);
+        }
+
+        long startedAt = System.nanoTime();
+        Set<Long> distinctIds = new LinkedHashSet<>(orderIds);
+        Map<Long, PurchaseOrderResponseDto> changed = transition.apply(distinctIds).stream()
+                .collect(Collectors.toMap(PurchaseOrderResponseDto::getId, Function.identity()));
+
+        Set<Long> existing = Set.of();
+        if (changed.size() < distinctIds.size()) {
+            List<Long> unchanged = distinctIds.stream().filter(id -> !changed.containsKey(id)).toList();
+            existing = new HashSet<>(orderRepository.findExistingIds(unchanged));
+        }
+
+        List<BulkOrderResultDto> results = new ArrayList<>(orderIds.size());
+        for (int i = 0; i < orderIds.size(); i++) {
+            Long orderId = orderIds.get(i);
+            PurchaseOrderResponseDto order = changed.get(orderId);
+            BulkOrderResultDto.BulkOrderResultDtoBuilder result = BulkOrderResultDto.builder()
+                    .index(i)
+                    .orderId(orderId)
+                    .success(order != null)
+                    .order(order);
+            if (order == null) {
+                ErrorStatus error = existing.contains(orderId)
+                        ? ErrorStatus.ORDER_ALREADY_PROCESSED
+                        : ErrorStatus.ORDER_NOT_FOUND;
+                result.errorCode(error.getCode()).errorMessage(error.getMessage());
+            }
+            results.add(result.build());
+        }
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        int succeeded = (int) results.stream().filter(BulkOrderResultDto::isSuccess).count();
+        double ordersPerSecond = elapsedMs == 0 ? succeeded : succeeded * 1000.0 / elapsedMs;
+        log.info("대량 주문 {} requested={} succeeded={} elapsedMs={}", action, orderIds.size(), succeeded, elapsedMs);
+
+        return BulkOrderResponseDto.builder()
+                .requested(orderIds.size())
+                .succeeded(succeeded)
+                .failed(orderIds.size() - succeeded)
+                .elapsedMs(elapsedMs)
+                .ordersPerSecond(ordersPerSecond)
+                .results(results)
+                .build();
+    }
+
+    private boolean isValid(PurchaseOrderRequestDto dto) {
+        return dto != null
+                && dto.getItems() != null
+                && !dto.getItems().isEmpty()
+                && dto.getItems().stream().allMatch(item -> item != null && item.getQuantity() != null);
+    }
+
+    private BulkOrderResultDto failure(int index, int errorCode, String errorMessage) {
+        return BulkOrderResultDto.builder()
+                .index(index)
+                .success(false)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
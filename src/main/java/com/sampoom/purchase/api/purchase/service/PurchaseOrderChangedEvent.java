@@ -0,0 +1,25 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderResponseDto;
+import com.sampoom.purchase.api.purchase.entity.OrderStatus;
+
+/**
+ * 주문 상태 전환 애플리케이션 이벤트 (프로세스 내부용)
+ * - 커밋 이후(@TransactionalEventListener AFTER_COMMIT) 인메모리 인덱스/캐시 갱신에 사용
+ */
+public record PurchaseOrderChangedEvent(
+        ChangeType type,
+        OrderStatus previousStatus, // CREATED 는 null
+        PurchaseOrderResponseDto order
+) {
+    public enum ChangeType {
+        CREATED,
+        RECEIVED,
+        CANCELED,
+        DELETED
+    }
+
+    public Long orderId() {
+        return order.getId();
+    }
+}
@@ -0,0 +1,10 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import java.util.List;
+
+/**
+ * 여러 주문의 상태 전환을 한 번에 알리는 이벤트 (대량 입고/취소)
+ * - 구독자가 건별 이벤트 대신 한 번에 반영 (인덱스 잠금 1회, 캐시 무효화 알림 1회)
+ */
+public record PurchaseOrdersChangedEvent(List<PurchaseOrderChangedEvent> changes) {
+}
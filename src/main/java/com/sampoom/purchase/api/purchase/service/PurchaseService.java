@@ -1,39 +1,125 @@
 package com.sampoom.purchase.api.purchase.service;
 
+import com.sampoom.purchase.api.purchase.dto.OrderCursor;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderItemDto;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderItemRow;
 import com.sampoom.purchase.api.purchase.dto.PurchaseOrderRequestDto;
 import com.sampoom.purchase.api.purchase.dto.PurchaseOrderResponseDto;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderRow;
 import com.sampoom.purchase.api.purchase.entity.*;
 import com.sampoom.purchase.api.purchase.repository.PurchaseOrderItemRepository;
 import com.sampoom.purchase.api.purchase.repository.PurchaseOrderRepository;
+import com.sampoom.purchase.api.purchase.service.PurchaseOrderChangedEvent.ChangeType;
+import com.sampoom.purchase.common.config.db.OrderPartitionManager;
 import com.sampoom.purchase.common.event.PurchaseEventService;
+import com.sampoom.purchase.common.exception.BadRequestException;
 import com.sampoom.purchase.common.exception.NotFoundException;
 import com.sampoom.purchase.common.response.ErrorStatus;
 import com.sampoom.purchase.common.response.PageResponseDto;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PurchaseService {
 
+    // 주문일 범위가 없을 때 쓰는 경계 (목록 쿼리는 항상 범위 조건을 가짐)
+    private static final LocalDateTime ORDER_AT_MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime ORDER_AT_MAX = LocalDateTime.of(9999, 1, 1, 0, 0);
+
     private final PurchaseOrderRepository orderRepository;
     private final PurchaseOrderItemRepository orderItemRepository;
     private final PurchaseEventService purchaseEventService;
+    private final OrderCodeAllocator orderCodeAllocator;
+    private final OrderSearchIndex orderSearchIndex;
+    private final OrderCountCache orderCountCache;
+    private final OrderDetailCache orderDetailCache;
+    private final OrderStatusTransitions orderStatusTransitions;
+    private final OrderArchiveReader orderArchiveReader;
+    private final OrderPartitionManager orderPartitionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 주문 코드는 트랜잭션 시작 전에 발급
+     * (블록 예약은 별도 커넥션을 쓰므로, 주문 커넥션을 잡은 채 예약을 기다리면 커넥션 풀이 고갈될 수 있음)
+     */
     public PurchaseOrderResponseDto createMaterialOrder(PurchaseOrderRequestDto requestDto) {
+        String code = orderCodeAllocator.nextCode();
+        return transactionTemplate.execute(tx -> saveOrder(requestDto, code));
+    }
+
+    private PurchaseOrderResponseDto saveOrder(PurchaseOrderRequestDto requestDto, String code) {
+        PurchaseOrder order = buildOrder(requestDto, code);
+        orderRepository.save(order);
+
+        List<PurchaseOrderItem> orderItems = buildItems(order, requestDto);
+        orderItemRepository.saveAll(orderItems);
+
+        // 주문 생성 이벤트 발행
+        purchaseEventService.recordOrderCreated(withItems(order, orderItems));
+
+        PurchaseOrderResponseDto response = PurchaseOrderResponseDto.from(order, orderItems);
+        eventPublisher.publishEvent(new PurchaseOrderChangedEvent(ChangeType.CREATED, null, response));
+        return response;
+    }
+
+    /**
+     * 여러 주문을 한 트랜잭션에서 생성 (대량 등록의 청크 단위)
+     * - 주문 코드는 건수만큼 한 블록으로 예약 (트랜잭션 시작 전)
+     * - 주문/아이템/아웃박스 INSERT는 flush 시점에 JDBC 배치로 전송
+     */
+    public List<PurchaseOrderResponseDto> createMaterialOrders(List<PurchaseOrderRequestDto> requestDtos) {
+        List<String> codes = orderCodeAllocator.nextCodes(requestDtos.size());
+        return transactionTemplate.execute(tx -> saveOrders(requestDtos, codes));
+    }
+
+    private List<PurchaseOrderResponseDto> saveOrders(List<PurchaseOrderRequestDto> requestDtos, List<String> codes) {
+        List<PurchaseOrder> orders = new ArrayList<>(requestDtos.size());
+        for (int i = 0; i < requestDtos.size(); i++) {
+            orders.add(buildOrder(requestDtos.get(i), codes.get(i)));
+        }
+        orderRepository.saveAll(orders);
+
+        List<PurchaseOrderItem> allItems = new ArrayList<>();
+        List<PurchaseOrder> ordersWithItems = new ArrayList<>(orders.size());
+        List<PurchaseOrderResponseDto> responses = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            PurchaseOrder order = orders.get(i);
+            List<PurchaseOrderItem> orderItems = buildItems(order, requestDtos.get(i));
+            allItems.addAll(orderItems);
+            ordersWithItems.add(withItems(order, orderItems));
+            responses.add(PurchaseOrderResponseDto.from(order, orderItems));
+        }
+        orderItemRepository.saveAll(allItems);
+
+        // 주문 생성 이벤트 일괄 기록
+        purchaseEventService.recordOrdersCreated(ordersWithItems);
+        responses.forEach(response ->
+                eventPublisher.publishEvent(new PurchaseOrderChangedEvent(ChangeType.CREATED, null, response)));
+
+        return responses;
+    }
+
+    private PurchaseOrder buildOrder(PurchaseOrderRequestDto requestDto, String code) {
         // 예상 금액 합산: Σ(unitPrice * quantity)
         BigDecimal expectedAmount = requestDto.getItems() == null ? BigDecimal.ZERO :
                 requestDto.getItems().stream()
@@ -54,8 +140,8 @@ public class PurchaseService {
         // 예정일 계산: 주문일 + 최대 계산된 리드타임
         LocalDateTime expectedDeliveryAt = LocalDateTime.now().plusDays(maxCalculatedLeadTime);
 
-        PurchaseOrder order = PurchaseOrder.builder()
-                .code(generateOrderCode())
+        return PurchaseOrder.builder()
+                .code(code)
                 .factoryId(requestDto.getFactoryId())
                 .status(OrderStatus.ORDERED)
                 .orderAt(LocalDateTime.now())
@@ -66,15 +152,12 @@ public class PurchaseService {
                 .expectedAmount(expectedAmount)
                 .urgency(urgency)
                 .build();
+    }
 
-        orderRepository.save(order);
-
-        // lambda에서 사용하기 위해 final 변수로 복사
-        final PurchaseOrder savedOrder = order;
-
-        List<PurchaseOrderItem> orderItems = requestDto.getItems().stream()
+    private List<PurchaseOrderItem> buildItems(PurchaseOrder order, PurchaseOrderRequestDto requestDto) {
+        return requestDto.getItems().stream()
                 .map(itemDto -> PurchaseOrderItem.builder()
-                        .purchaseOrder(savedOrder)
+                        .purchaseOrder(order)
                         .materialCode(itemDto.getMaterialCode())
                         .materialName(itemDto.getMaterialName())
                         .unit(itemDto.getUnit())
@@ -82,33 +165,10 @@ public class PurchaseService {
                         .standardQuantity(itemDto.getStandardQuantity())
                         .unitPrice(itemDto.getUnitPrice())
                         .leadTimeDays(itemDto.getLeadTimeDays())
+                        // 파티셔닝을 쓸 때만 파티션 키 복사본을 채움
+                        .orderAt(orderPartitionManager.isEnabled() ? order.getOrderAt() : null)
                         .build())
                 .collect(Collectors.toList());
-
-        orderItemRepository.saveAll(orderItems);
-
-        // order에 items 설정 (이벤트에서 사용하기 위해)
-        PurchaseOrder orderWithItems = PurchaseOrder.builder()
-                .id(savedOrder.getId())
-                .code(savedOrder.getCode())
-                .factoryId(savedOrder.getFactoryId())
-                .factoryName(savedOrder.getFactoryName())
-                .status(savedOrder.getStatus())
-                .orderAt(savedOrder.getOrderAt())
-                .receivedAt(savedOrder.getReceivedAt())
-                .canceledAt(savedOrder.getCanceledAt())
-                .requiredAt(savedOrder.getRequiredAt())
-                .expectedDeliveryAt(savedOrder.getExpectedDeliveryAt())
-                .requesterName(savedOrder.getRequesterName())
-                .expectedAmount(savedOrder.getExpectedAmount())
-                .urgency(savedOrder.getUrgency())
-                .items(orderItems)
-                .build();
-
-        // 주문 생성 이벤트 발행
-        purchaseEventService.recordOrderCreated(orderWithItems);
-
-        return PurchaseOrderResponseDto.from(savedOrder, orderItems);
     }
 
     /**
@@ -133,70 +193,144 @@ public class PurchaseService {
         return UrgencyLevel.LOW;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 없이 조회
+     * (아이템은 생성 후 바뀌지 않으므로 주문/아이템을 각각 읽어도 일관됨)
+     * hot 테이블에 없으면 아카이브에서 찾음 (응답 형태는 동일)
+     */
     public PurchaseOrderResponseDto getOrder(Long orderId) {
-        PurchaseOrder order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.ORDER_NOT_FOUND));
-        List<PurchaseOrderItem> items = orderItemRepository.findByPurchaseOrderId(orderId);
-        return PurchaseOrderResponseDto.from(order, items);
+        return orderDetailCache.get(orderId, () -> loadResponses(List.of(orderId)).stream()
+                .findFirst()
+                .or(() -> orderArchiveReader.findArchived(orderId))
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.ORDER_NOT_FOUND)));
     }
 
+    /**
+     * @param includeTotal false 면 총 건수/페이지 수 계산을 생략 (무한 스크롤 등)
+     * @param includeArchived true 면 아카이브된 주문까지 포함 (인덱스/건수 캐시를 거치지 않음)
+     * @param from 주문일 범위 시작 (포함, null 이면 제한 없음) - 범위를 지정하면 범위 밖 월 파티션을 읽지 않음
+     * @param to 주문일 범위 끝 (미포함, null 이면 제한 없음)
+     */
     @Transactional(readOnly = true)
-    public PageResponseDto<PurchaseOrderResponseDto> getOrders(OrderStatus status, UrgencyLevel urgency, String query, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "orderAt"));
-        Page<PurchaseOrder> pageResult = orderRepository.search(status, urgency, query, pageable);
-        List<Long> orderIds = pageResult.getContent().stream()
-                                .map(PurchaseOrder::getId).toList();
-                List<PurchaseOrderItem> allItems =
-                                orderItemRepository.findByPurchaseOrderIdIn(orderIds);
-                Map<Long, List<PurchaseOrderItem>> itemsByOrderId = allItems.stream()
-                                .collect(Collectors.groupingBy(i -> i.getPurchaseOrder().getId()));
-                List<PurchaseOrderResponseDto> content = pageResult.getContent().stream()
-                                .map(order -> PurchaseOrderResponseDto.from(
-                                        order,
-                                        itemsByOrderId.getOrDefault(order.getId(), java.util.Collections.emptyList())))
-                                .collect(Collectors.toList());
+    public PageResponseDto<PurchaseOrderResponseDto> getOrders(OrderStatus status, UrgencyLevel urgency, String query,
+                                                               LocalDateTime from, LocalDateTime to,
+                                                               int page, int size, boolean includeTotal,
+                                                               boolean includeArchived) {
+        validateRange(from, to);
+        if (includeArchived) {
+            List<Long> orderIds = orderArchiveReader.searchIds(
+                    status, urgency, query, from, to, null, null, (long) page * size, size);
+            Long total = includeTotal ? orderArchiveReader.count(status, urgency, query, from, to) : null;
+            return toPage(orderArchiveReader.loadResponses(orderIds), total, size);
+        }
+        boolean ranged = from != null || to != null;
+
+        // 검색어가 있으면 인메모리 트라이그램 인덱스로 ID 목록을 구함 (준비 전이면 DB 검색, 주문일 범위는 DB 에서)
+        if (!ranged && query != null && !query.isBlank() && size > 0) {
+            Optional<OrderSearchIndex.SearchResult> indexed =
+                    orderSearchIndex.search(status, urgency, query, page, size);
+            if (indexed.isPresent()) {
+                return toPage(loadResponses(indexed.get().orderIds()),
+                        includeTotal ? indexed.get().total() : null, size);
+            }
+        }
+
+        // 1단계: 페이지의 주문 ID → 2단계: ID 기준 프로젝션 조회
+        LocalDateTime fromAt = from == null ? ORDER_AT_MIN : from;
+        LocalDateTime toAt = to == null ? ORDER_AT_MAX : to;
+        String pattern = LikePatterns.escape(query);
+        List<Long> orderIds = orderRepository.searchIds(status, urgency, pattern, fromAt, toAt, PageRequest.of(page, size));
+        Long total = null;
+        if (includeTotal) {
+            // 건수 캐시는 범위 없는 필터 조합만 보관
+            total = ranged
+                    ? orderRepository.countSearch(status, urgency, pattern, fromAt, toAt)
+                    : orderCountCache.count(status, urgency, query,
+                            () -> orderRepository.countSearch(status, urgency, pattern, fromAt, toAt));
+        }
+        return toPage(loadResponses(orderIds), total, size);
+    }
+
+    private static void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BadRequestException(ErrorStatus.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private PageResponseDto<PurchaseOrderResponseDto> toPage(List<PurchaseOrderResponseDto> content, Long total, int size) {
         return PageResponseDto.<PurchaseOrderResponseDto>builder()
                 .content(content)
-                .totalElements(pageResult.getTotalElements())
-                .totalPages(pageResult.getTotalPages())
+                .totalElements(total)
+                .totalPages(total == null ? null : (int) ((total + size - 1) / size))
                 .build();
     }
 
+    /**
+     * 커서(키셋) 목록 조회: OFFSET 과 COUNT 없이 (orderAt, id) 기준으로 다음 페이지를 seek
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDto<PurchaseOrderResponseDto> getOrdersByCursor(OrderStatus status, UrgencyLevel urgency,
+                                                                       String query, LocalDateTime from, LocalDateTime to,
+                                                                       String cursor, int size, boolean includeArchived) {
+        if (size < 1) {
+            throw new BadRequestException(ErrorStatus.INVALID_INPUT_VALUE);
+        }
+        validateRange(from, to);
+        OrderCursor after = OrderCursor.decode(cursor);
+        LocalDateTime cursorAt = after == null ? null : after.orderAt();
+        Long cursorId = after == null ? null : after.id();
+
+        // size + 1 건을 읽어 다음 페이지 존재 여부 판단
+        List<Long> ids = null;
+        if (includeArchived) {
+            ids = orderArchiveReader.searchIds(status, urgency, query, from, to, cursorAt, cursorId, 0, size + 1);
+        } else if (from == null && to == null && query != null && !query.isBlank()) {
+            ids = orderSearchIndex.searchAfter(status, urgency, query, cursorAt, cursorId, size + 1).orElse(null);
+        }
+        if (ids == null) {
+            ids = orderRepository.searchIdsAfter(status, urgency, LikePatterns.escape(query),
+                    from == null ? ORDER_AT_MIN : from, to == null ? ORDER_AT_MAX : to,
+                    cursorAt, cursorId, PageRequest.of(0, size + 1));
+        }
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+        List<PurchaseOrderResponseDto> content = includeArchived
+                ? orderArchiveReader.loadResponses(pageIds)
+                : loadResponses(pageIds);
+        String nextCursor = hasNext && !content.isEmpty()
+                ? OrderCursor.of(content.get(content.size() - 1)).encode()
+                : null;
+        return PageResponseDto.<PurchaseOrderResponseDto>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .build();
+    }
 
+    /**
+     * 주문 ID 목록 순서대로 응답 DTO 구성
+     * 주문/아이템 모두 DTO 프로젝션으로 읽어 영속성 컨텍스트를 거치지 않음
+     */
+    private List<PurchaseOrderResponseDto> loadResponses(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, PurchaseOrderRow> rowsById = orderRepository.findRowsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(PurchaseOrderRow::id, Function.identity()));
+        Map<Long, List<PurchaseOrderItemDto>> itemsByOrderId = orderItemRepository.findRowsByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(PurchaseOrderItemRow::orderId,
+                        Collectors.mapping(PurchaseOrderItemRow::toDto, Collectors.toList())));
+        return orderIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .map(row -> row.toResponse(itemsByOrderId.getOrDefault(row.id(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
 
     @Transactional
     public PurchaseOrderResponseDto cancelOrder(Long orderId) {
-        PurchaseOrder order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.ORDER_NOT_FOUND));
-        order.cancel();
-        orderRepository.save(order);
-
-        // items 로드하여 이벤트에 포함
-        List<PurchaseOrderItem> items = orderItemRepository.findByPurchaseOrderId(orderId);
-
-        // order에 items 설정
-        order = PurchaseOrder.builder()
-                .id(order.getId())
-                .code(order.getCode())
-                .factoryId(order.getFactoryId())
-                .factoryName(order.getFactoryName())
-                .status(order.getStatus())
-                .orderAt(order.getOrderAt())
-                .receivedAt(order.getReceivedAt())
-                .canceledAt(order.getCanceledAt())
-                .requiredAt(order.getRequiredAt())
-                .expectedDeliveryAt(order.getExpectedDeliveryAt())
-                .requesterName(order.getRequesterName())
-                .expectedAmount(order.getExpectedAmount())
-                .urgency(order.getUrgency())
-                .items(items)
-                .build();
-
         // 주문 취소 이벤트 발행
-        purchaseEventService.recordOrderCanceled(order);
-
-        return PurchaseOrderResponseDto.from(order, items);
+        return transitionFromOrdered(orderId, OrderStatus.CANCELED, ChangeType.CANCELED,
+                purchaseEventService::recordOrderCanceled);
     }
 
     @Transactional
@@ -208,41 +342,80 @@ public class PurchaseService {
         List<PurchaseOrderItem> items = orderItemRepository.findByPurchaseOrderId(orderId);
 
         // order에 items 설정
-        order = PurchaseOrder.builder()
-                .id(order.getId())
-                .code(order.getCode())
-                .factoryId(order.getFactoryId())
-                .factoryName(order.getFactoryName())
-                .status(order.getStatus())
-                .orderAt(order.getOrderAt())
-                .receivedAt(order.getReceivedAt())
-                .canceledAt(order.getCanceledAt())
-                .requiredAt(order.getRequiredAt())
-                .expectedDeliveryAt(order.getExpectedDeliveryAt())
-                .requesterName(order.getRequesterName())
-                .expectedAmount(order.getExpectedAmount())
-                .urgency(order.getUrgency())
-                .items(items)
-                .build();
+        order = withItems(order, items);
 
         // 주문 삭제 이벤트 발행
         purchaseEventService.recordOrderDeleted(order);
 
         orderRepository.delete(order);
+        eventPublisher.publishEvent(new PurchaseOrderChangedEvent(
+                ChangeType.DELETED, order.getStatus(), PurchaseOrderResponseDto.from(order, items)));
     }
 
     @Transactional
     public PurchaseOrderResponseDto receiveOrder(Long orderId) {
-        PurchaseOrder order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.ORDER_NOT_FOUND));
-        order.receive();
-        orderRepository.save(order);
+        // 자재 입고 처리 이벤트 발행
+        return transitionFromOrdered(orderId, OrderStatus.RECEIVED, ChangeType.RECEIVED,
+                purchaseEventService::recordOrderReceived);
+    }
 
-        // items 로드하여 이벤트에 포함
-        List<PurchaseOrderItem> items = orderItemRepository.findByPurchaseOrderId(orderId);
+    /**
+     * ORDERED 인 경우에만 조건부 UPDATE 로 전환 (동시 요청 중 하나만 성공, 이벤트도 한 번만 기록)
+     * 전환되지 않았으면 주문 존재 여부로 NOT_FOUND / ORDER_ALREADY_PROCESSED 구분
+     */
+    private PurchaseOrderResponseDto transitionFromOrdered(Long orderId, OrderStatus target, ChangeType changeType,
+                                                           Consumer<PurchaseOrder> eventRecorder) {
+        OrderStatusTransitions.Transitioned transitioned = orderStatusTransitions.fromOrdered(orderId, target)
+                .orElseThrow(() -> orderRepository.existsById(orderId)
+                        ? new BadRequestException(ErrorStatus.ORDER_ALREADY_PROCESSED)
+                        : new NotFoundException(ErrorStatus.ORDER_NOT_FOUND));
+
+        eventRecorder.accept(transitioned.order());
+
+        PurchaseOrderResponseDto response = transitioned.response();
+        eventPublisher.publishEvent(new PurchaseOrderChangedEvent(changeType, OrderStatus.ORDERED, response));
+        return response;
+    }
 
-        // order에 items 설정
-        order = PurchaseOrder.builder()
+    /**
+     * 여러 주문 입고/취소 (하역 일괄 처리)
+     * - 조건부 UPDATE 한 문장으로 ORDERED 인 주문만 전환하고 아이템도 같은 문장에서 읽음
+     * - 아웃박스 이벤트는 배치 INSERT, 인메모리 인덱스/캐시에는 묶음 이벤트 하나로 반영
+     * @return 전환된 주문 (전환되지 않은 ID 는 포함되지 않음)
+     */
+    @Transactional
+    public List<PurchaseOrderResponseDto> receiveOrders(Collection<Long> orderIds) {
+        return transitionAllFromOrdered(orderIds, OrderStatus.RECEIVED, ChangeType.RECEIVED,
+                purchaseEventService::recordOrdersReceived);
+    }
+
+    @Transactional
+    public List<PurchaseOrderResponseDto> cancelOrders(Collection<Long> orderIds) {
+        return transitionAllFromOrdered(orderIds, OrderStatus.CANCELED, ChangeType.CANCELED,
+                purchaseEventService::recordOrdersCanceled);
+    }
+
+    private List<PurchaseOrderResponseDto> transitionAllFromOrdered(Collection<Long> orderIds, OrderStatus target,
+                                                                    ChangeType changeType,
+                                                                    Consumer<List<PurchaseOrder>> eventRecorder) {
+        List<OrderStatusTransitions.Transitioned> transitioned = orderStatusTransitions.fromOrdered(orderIds, target);
+        if (transitioned.isEmpty()) {
+            return List.of();
+        }
+        eventRecorder.accept(transitioned.stream().map(OrderStatusTransitions.Transitioned::order).toList());
+
+        List<PurchaseOrderResponseDto> responses = transitioned.stream()
+                .map(OrderStatusTransitions.Transitioned::response)
+                .toList();
+        eventPublisher.publishEvent(new PurchaseOrdersChangedEvent(responses.stream()
+                .map(response -> new PurchaseOrderChangedEvent(changeType, OrderStatus.ORDERED, response))
+                .toList()));
+        return responses;
+    }
+
+    // 이벤트에 items 를 포함하기 위해 주문 정보를 복사
+    private PurchaseOrder withItems(PurchaseOrder order, List<PurchaseOrderItem> items) {
+        return PurchaseOrder.builder()
                 .id(order.getId())
                 .code(order.getCode())
                 .factoryId(order.getFactoryId())
@@ -258,32 +431,5 @@ public class PurchaseService {
                 .urgency(order.getUrgency())
                 .items(items)
                 .build();
-
-        // 자재 입고 처리 이벤트 발행
-        purchaseEventService.recordOrderReceived(order);
-
-        return PurchaseOrderResponseDto.from(order, items);
-    }
-
-    private String generateOrderCode() {
-        String datePart = java.time.LocalDate.now()
-                .format(java.time.format.DateTimeFormatter.ofPattern("yyMMdd")); // YYMMDD 형식으로 변경
-        String prefix = "PR-" + datePart + "-";
-
-        String lastCode = orderRepository
-                .findTopByCodeStartingWithOrderByCodeDesc(prefix)
-                .map(PurchaseOrder::getCode)
-                .orElse(null);
-
-        int nextSeq = 1;
-        if (lastCode != null && lastCode.startsWith(prefix)) {
-            String seqStr = lastCode.substring(prefix.length());
-            try {
-                nextSeq = Integer.parseInt(seqStr) + 1;
-            } catch (NumberFormatException ignored) {
-                // keep as 1
-            }
-        }
-        return prefix + String.format("%03d", nextSeq);
     }
 }
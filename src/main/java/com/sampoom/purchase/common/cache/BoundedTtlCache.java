@@ -0,0 +1,121 @@
+package com.sampoom.purchase.common.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 최대 크기와 TTL 이 있는 인메모리 캐시
+ * - 조회는 잠금 없이 ConcurrentHashMap 에서 바로 수행
+ * - 최대 크기를 넘으면 만료 항목부터 지우고, 그래도 넘치면 임의 항목을 지워 90% 까지 줄임
+ * - 항목별 만료 시각 지정 가능 (예: 토큰 exp)
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> map = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public BoundedTtlCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            if (map.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + ttlMillis);
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        map.put(key, new Entry<>(value, Math.min(expiresAtMillis, System.currentTimeMillis() + ttlMillis)));
+        if (map.size() > maxSize) {
+            evict();
+        }
+    }
+
+    public void invalidate(K key) {
+        map.remove(key);
+    }
+
+    public void invalidateAll() {
+        map.clear();
+    }
+
+    public void forEachValue(Consumer<V> consumer) {
+        map.values().forEach(entry -> consumer.accept(entry.value()));
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return; // 다른 스레드가 정리 중
+        }
+        try {
+            long now = System.currentTimeMillis();
+            int target = (int) (maxSize * 0.9);
+            Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator();
+            while (it.hasNext()) {
+                if (it.next().getValue().expiresAt() <= now) {
+                    it.remove();
+                    evictions.increment();
+                }
+            }
+            it = map.entrySet().iterator();
+            while (map.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+                evictions.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
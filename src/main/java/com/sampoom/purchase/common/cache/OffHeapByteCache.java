@@ -0,0 +1,150 @@
+package com.sampoom.purchase.common.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 직렬화된 값을 direct ByteBuffer 에 보관하는 오프힙 캐시
+ * - 힙 캐시보다 큰 작업 집합을 GC 대상 객체 수를 늘리지 않고 보관
+ * - 전체 바이트 예산(maxBytes)과 TTL 로 제한, 예산 초과 시 만료 항목부터 지우고 90% 까지 줄임
+ * - 제거된 버퍼의 네이티브 메모리는 버퍼 객체가 GC 될 때 반환됨
+ */
+public class OffHeapByteCache<K> {
+
+    private final ConcurrentHashMap<K, Entry> map = new ConcurrentHashMap<>();
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public OffHeapByteCache(long maxBytes, long ttlMillis) {
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * @return 저장된 바이트의 복사본, 없거나 만료되면 null
+     */
+    public byte[] get(K key) {
+        Entry entry = map.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            if (remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        byte[] bytes = new byte[entry.buffer().capacity()];
+        entry.buffer().duplicate().get(bytes); // duplicate: 다른 스레드와 position 을 공유하지 않음
+        return bytes;
+    }
+
+    public void put(K key, byte[] value) {
+        if (value.length > maxBytes / 10) {
+            return; // 너무 큰 항목은 예산을 독점하므로 보관하지 않음
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(value.length);
+        buffer.put(value).flip();
+        Entry entry = new Entry(buffer, System.currentTimeMillis() + ttlMillis);
+        usedBytes.addAndGet(value.length);
+        Entry previous = map.put(key, entry);
+        if (previous != null) {
+            usedBytes.addAndGet(-previous.buffer().capacity());
+        }
+        if (usedBytes.get() > maxBytes) {
+            evict();
+        }
+    }
+
+    public void invalidate(K key) {
+        Entry entry = map.remove(key);
+        if (entry != null) {
+            usedBytes.addAndGet(-entry.buffer().capacity());
+        }
+    }
+
+    public void invalidateAll() {
+        map.keySet().forEach(this::invalidate);
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public long usedBytes() {
+        return usedBytes.get();
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    private boolean remove(K key, Entry entry) {
+        if (map.remove(key, entry)) {
+            usedBytes.addAndGet(-entry.buffer().capacity());
+            return true;
+        }
+        return false;
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return; // 다른 스레드가 정리 중
+        }
+        try {
+            long now = System.currentTimeMillis();
+            long target = (long) (maxBytes * 0.9);
+            Iterator<Map.Entry<K, Entry>> it = map.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<K, Entry> e = it.next();
+                if (e.getValue().expiresAt() <= now && remove(e.getKey(), e.getValue())) {
+                    evictions.increment();
+                }
+            }
+            it = map.entrySet().iterator();
+            while (usedBytes.get() > target && it.hasNext()) {
+                Map.Entry<K, Entry> e = it.next();
+                if (remove(e.getKey(), e.getValue())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record Entry(ByteBuffer buffer, long expiresAt) {
+    }
+}
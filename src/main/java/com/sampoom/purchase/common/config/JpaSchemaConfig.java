@@ -0,0 +1,21 @@
+package com.sampoom.purchase.common.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마 관리 설정
+ * - 주문/아이템 테이블을 파티션 테이블로 전환한 뒤에도 Hibernate 스키마 갱신/검증이 테이블을 인식하도록
+ *   PostgreSQL 의 PARTITIONED TABLE 을 물리 테이블로 취급
+ */
+@Configuration
+public class JpaSchemaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer partitionedTableCustomizer() {
+        return hibernateProperties ->
+                hibernateProperties.putIfAbsent(AvailableSettings.EXTRA_PHYSICAL_TABLE_TYPES, "PARTITIONED TABLE");
+    }
+}
@@ -0,0 +1,82 @@
+package com.sampoom.purchase.common.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 아웃박스 발행 처리량을 위한 Kafka 프로듀서 설정
+ * - 배치 단위로 한꺼번에 send 하므로 linger/batch.size 로 레코드를 묶고 압축해서 전송
+ * - spring.kafka.producer.* 에 같은 키가 있으면 그 값을 우선 사용
+ */
+@Configuration
+public class KafkaProducerConfig {
+
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer producerThroughputCustomizer(
+            @Value("${purchase.kafka.producer.batch-size:65536}") int batchSize,
+            @Value("${purchase.kafka.producer.linger-ms:5}") int lingerMs,
+            @Value("${purchase.kafka.producer.compression-type:lz4}") String compressionType) {
+        return factory -> {
+            Map<String, Object> configured = factory.getConfigurationProperties();
+            Map<String, Object> defaults = new HashMap<>();
+            defaults.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+            defaults.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+            defaults.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+            defaults.keySet().removeAll(configured.keySet());
+            factory.updateConfigs(defaults);
+        };
+    }
+
+    /**
+     * 아웃박스 이벤트 전송용 템플릿: 기록 시 직렬화된 바이트를 재인코딩 없이 그대로 전송
+     * spring.kafka.producer.* 설정과 위 customizer 를 그대로 적용
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> eventKafkaTemplate(
+            KafkaProperties kafkaProperties,
+            ObjectProvider<SslBundles> sslBundles,
+            ObjectProvider<DefaultKafkaProducerFactoryCustomizer> customizers) {
+        DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable()),
+                new StringSerializer(),
+                new ByteArraySerializer());
+        customizers.orderedStream().forEach(customizer -> customizer.customize(factory));
+        return new KafkaTemplate<>(factory);
+    }
+
+    /**
+     * exactly-once 발행 모드용 트랜잭션 프로듀서 (purchase.outbox.delivery=exactly-once 일 때만 생성)
+     * 인스턴스마다 다른 transactional.id 를 쓰도록 접두사에 임의 값을 붙임
+     */
+    @Bean
+    @ConditionalOnProperty(name = "purchase.outbox.delivery", havingValue = "exactly-once")
+    public KafkaTemplate<String, byte[]> transactionalEventKafkaTemplate(
+            KafkaProperties kafkaProperties,
+            ObjectProvider<SslBundles> sslBundles,
+            ObjectProvider<DefaultKafkaProducerFactoryCustomizer> customizers,
+            @Value("${purchase.kafka.producer.transaction-id-prefix:purchase-outbox-}") String transactionIdPrefix) {
+        DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable()),
+                new StringSerializer(),
+                new ByteArraySerializer());
+        customizers.orderedStream().forEach(customizer -> customizer.customize(factory));
+        factory.updateConfigs(Map.of(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true));
+        factory.setTransactionIdPrefix(transactionIdPrefix + UUID.randomUUID().toString().substring(0, 8) + "-");
+        return new KafkaTemplate<>(factory);
+    }
+}
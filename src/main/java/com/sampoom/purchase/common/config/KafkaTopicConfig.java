@@ -0,0 +1,35 @@
+package com.sampoom.purchase.common.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * 주문 스냅샷 토픽 (log compaction)
+ * - 키 = 주문 ID, 값 = 최신 주문 상태 이벤트 바이트, 삭제된 주문은 톰스톤
+ * - 새로 시작하는 소비자는 purchase-events 전체 대신 이 토픽만 읽으면 주문당 레코드 하나로 현재 상태 구성
+ * - 토픽이 이미 있으면 KafkaAdmin 이 설정을 바꾸지 않음
+ */
+@Configuration
+@ConditionalOnProperty(name = "purchase.kafka.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic orderSnapshotTopic(
+            @Value("${purchase.kafka.snapshot.topic:purchase-order-snapshots}") String topic,
+            @Value("${purchase.kafka.snapshot.partitions:3}") int partitions,
+            @Value("${purchase.kafka.snapshot.replicas:1}") short replicas,
+            @Value("${purchase.kafka.snapshot.delete-retention-ms:86400000}") long deleteRetentionMs) {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .replicas(replicas)
+                .compact()
+                // 톰스톤을 소비자가 읽을 수 있도록 유지하는 시간
+                .config(TopicConfig.DELETE_RETENTION_MS_CONFIG, String.valueOf(deleteRetentionMs))
+                .build();
+    }
+}
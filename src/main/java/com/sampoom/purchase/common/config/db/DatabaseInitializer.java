@@ -0,0 +1,115 @@
+package com.sampoom.purchase.common.config.db;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * JPA DDL 이후에 실행되는 보조 스키마 작업
+ * - 모든 구문은 여러 번 실행해도 안전해야 함 (IF NOT EXISTS 등)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class DatabaseInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderPartitionManager orderPartitionManager;
+
+    // IDENTITY → SEQUENCE 전환: 시퀀스가 기존 최대 ID 뒤에서 시작하도록 맞춤
+    private static final List<String[]> SEQUENCES = List.of(
+            new String[]{"purchase_order_seq", "purchase_order", "purchase_order_id"},
+            new String[]{"purchase_order_item_seq", "purchase_order_item", "purchase_order_item_id"},
+            new String[]{"purchase_outbox_seq", "purchase_outbox", "purchase_outbox_id"}
+    );
+
+    private static final int SEQUENCE_INCREMENT = 50;
+
+    private static final List<String> INDEXES = List.of(
+            // 목록 정렬/커서 seek (orderAt DESC, id DESC): ID 우선 페이지 조회, 커서 조회, 내보내기가 정렬 없이 인덱스 순서로 읽음
+            // 파티션 전환 뒤에 실행되므로 파티션 테이블이면 부모 기준으로 모든 파티션에 생성됨
+            "CREATE INDEX IF NOT EXISTS ix_purchase_order_order_at_id ON purchase_order (order_at DESC, purchase_order_id DESC)",
+            // 검색 인덱스 델타 동기화 (updated_at 이후 변경분)
+            "CREATE INDEX IF NOT EXISTS ix_purchase_order_updated_at ON purchase_order (updated_at)",
+            // 아웃박스 선점: 발행 대상 상태만 인덱싱해 PUBLISHED 행이 쌓여도 스캔 범위가 늘지 않음
+            "CREATE INDEX IF NOT EXISTS ix_purchase_outbox_ready ON purchase_outbox (occurred_at) WHERE status = 'READY'",
+            "CREATE INDEX IF NOT EXISTS ix_purchase_outbox_retry ON purchase_outbox (next_retry_at) WHERE status = 'FAILED'",
+            "CREATE INDEX IF NOT EXISTS ix_purchase_outbox_lease_token ON purchase_outbox (lease_token) WHERE lease_token IS NOT NULL",
+            // 주문별 가장 앞선 미발행 이벤트(head) 확인, 같은 주문의 뒤 행 함께 선점
+            "CREATE INDEX IF NOT EXISTS ix_purchase_outbox_pending_aggregate ON purchase_outbox (aggregate_id, occurred_at) "
+                    + "WHERE status IN ('READY', 'FAILED')",
+            // 보존 기간 정리 (종료 시각 기준)
+            "CREATE INDEX IF NOT EXISTS ix_purchase_outbox_published_at ON purchase_outbox (published_at) WHERE status = 'PUBLISHED'",
+            "CREATE INDEX IF NOT EXISTS ix_purchase_outbox_dead ON purchase_outbox (COALESCE(last_tried_at, occurred_at)) WHERE status = 'DEAD'",
+            // 주문 아카이브 대상 선별 (종료 주문만)
+            "CREATE INDEX IF NOT EXISTS ix_purchase_order_closed_at ON purchase_order "
+                    + "(COALESCE(received_at, canceled_at, updated_at)) WHERE status IN ('RECEIVED', 'CANCELED')",
+            // 주문별 아이템 조회, 파티션 분리 시 FK 확인
+            "CREATE INDEX IF NOT EXISTS ix_purchase_order_item_order ON purchase_order_item (purchase_order_id, order_at)"
+    );
+
+    private static final List<String> MIGRATIONS = List.of(
+            // 이벤트를 payload_bytes 로 저장하면서 jsonb payload 는 이전 행에만 남음
+            "ALTER TABLE purchase_outbox ALTER COLUMN payload DROP NOT NULL"
+    );
+
+    private static final String ORDER_VIEW_COLUMNS = "purchase_order_id, code, order_at, received_at, canceled_at, "
+            + "required_at, expected_delivery_at, status, factory_id, factory_name, urgency, requester_name, "
+            + "expected_amount, created_at, updated_at";
+    private static final String ITEM_VIEW_COLUMNS = "purchase_order_item_id, purchase_order_id, quantity, "
+            + "standard_quantity, material_code, material_name, unit, unit_price, lead_time_days";
+
+    // 주문 아카이브(cold) 테이블: hot 테이블과 같은 컬럼 + 이동 시각, FK 없음
+    private static final List<String> ARCHIVE = List.of(
+            "CREATE TABLE IF NOT EXISTS purchase_order_archive (LIKE purchase_order INCLUDING DEFAULTS, "
+                    + "archived_at timestamp(6) NOT NULL DEFAULT now(), PRIMARY KEY (purchase_order_id))",
+            "CREATE TABLE IF NOT EXISTS purchase_order_item_archive (LIKE purchase_order_item INCLUDING DEFAULTS, "
+                    + "PRIMARY KEY (purchase_order_item_id))",
+            "CREATE INDEX IF NOT EXISTS ix_purchase_order_archive_order_at "
+                    + "ON purchase_order_archive (order_at, purchase_order_id)",
+            "CREATE INDEX IF NOT EXISTS ix_purchase_order_item_archive_order "
+                    + "ON purchase_order_item_archive (purchase_order_id)",
+            // includeArchived 목록 조회용 (삭제되지 않은 주문만)
+            "CREATE OR REPLACE VIEW purchase_order_all AS "
+                    + "SELECT " + ORDER_VIEW_COLUMNS + " FROM purchase_order WHERE deleted = false "
+                    + "UNION ALL SELECT " + ORDER_VIEW_COLUMNS + " FROM purchase_order_archive WHERE deleted = false",
+            "CREATE OR REPLACE VIEW purchase_order_item_all AS "
+                    + "SELECT " + ITEM_VIEW_COLUMNS + " FROM purchase_order_item "
+                    + "UNION ALL SELECT " + ITEM_VIEW_COLUMNS + " FROM purchase_order_item_archive"
+    );
+
+    @PostConstruct
+    public void initialize() {
+        MIGRATIONS.forEach(this::execute);
+        // 인덱스는 파티션 전환 뒤에 만들어야 부모(파티션) 테이블 기준으로 생성됨
+        // 전환 실패는 다른 보조 작업과 달리 예외로 기동을 멈춤
+        orderPartitionManager.convertIfNeeded();
+        ARCHIVE.forEach(this::execute);
+        for (String[] seq : SEQUENCES) {
+            alignSequence(seq[0], seq[1], seq[2]);
+        }
+        INDEXES.forEach(this::execute);
+        orderPartitionManager.maintain(); // 현재 달 파티션이 없으면 첫 INSERT 전에 생성
+    }
+
+    private void alignSequence(String sequence, String table, String idColumn) {
+        execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " START WITH 1 INCREMENT BY " + SEQUENCE_INCREMENT);
+        execute("SELECT setval('" + sequence + "', GREATEST("
+                + "(SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table + "), "
+                + "(SELECT last_value FROM " + sequence + ")))");
+    }
+
+    private void execute(String sql) {
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (Exception e) {
+            log.warn("DB 초기화 구문 실패 sql={} cause={}", sql, e.toString());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.sampoom.purchase.common.config.db;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderPartitionDto {
+    private String table;
+    private String partition;
+    private LocalDateTime from; // null 이면 MINVALUE (legacy 파티션)
+    private LocalDateTime to;   // 미포함
+    private long approxRows;
+    private long totalBytes;
+}
@@ -0,0 +1,306 @@
+package com.sampoom.purchase.common.config.db;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 주문/아이템 테이블의 orderAt 월 단위 범위 파티셔닝
+ * - enabled 이면 기존 힙 테이블을 한 번만 파티션 테이블로 전환: 기존 테이블은 이름을 바꿔
+ *   (MINVALUE ~ 다음 달 1일) 범위의 legacy 파티션으로 붙임 (CHECK 제약으로 ATTACH 검증 스캔 생략)
+ * - 아이템은 order_at 을 복사해 같은 경계로 파티셔닝, FK 는 (purchase_order_id, order_at)
+ *   (아이템 order_at 컬럼은 전환 시에만 추가, 파티셔닝을 쓰지 않으면 값을 채우지 않음)
+ * - 전환에 실패하거나 일부만 전환된 스키마면 기동 실패
+ * - 다가올 months-ahead 개월의 파티션을 미리 생성
+ * - detach-after-months 가 지난 파티션 중 아카이브로 모두 옮겨져 비어 있는 파티션만 DETACH CONCURRENTLY 로 분리
+ *   (행이 남은 파티션을 분리하면 상세 조회/검색 인덱스에서 주문이 사라지거나 남게 됨)
+ */
+@Slf4j
+@Component
+public class OrderPartitionManager {
+
+    private static final String ORDER_TABLE = "purchase_order";
+    private static final String ITEM_TABLE = "purchase_order_item";
+    private static final String LEGACY_SUFFIX = "_legacy";
+    private static final String DEFAULT_FK_NAME = "fk_purchase_order_item_order";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern BOUND = Pattern.compile("FROM \\((.+?)\\) TO \\((.+?)\\)");
+
+    private record Partition(String table, String name, LocalDateTime from, LocalDateTime to) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int detachAfterMonths;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrderPartitionManager(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${purchase.partition.enabled:false}") boolean enabled,
+                                 @Value("${purchase.partition.months-ahead:3}") int monthsAhead,
+                                 @Value("${purchase.partition.detach-after-months:0}") int detachAfterMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.monthsAhead = Math.max(1, monthsAhead);
+        this.detachAfterMonths = detachAfterMonths; // 0 이하면 분리하지 않음
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 힙 테이블 → 파티션 테이블 전환 (DatabaseInitializer 에서 인덱스 생성 전에 호출)
+     * 한 트랜잭션으로 처리해 실패하면 원래 테이블 그대로 남고, 예외로 기동을 멈춤
+     * (파티셔닝을 켠 상태로 힙 테이블에서 동작하면 아이템 FK/파티션 관리가 맞지 않음)
+     */
+    void convertIfNeeded() {
+        if (!enabled) {
+            return;
+        }
+        boolean orders = isPartitioned(ORDER_TABLE);
+        boolean items = isPartitioned(ITEM_TABLE);
+        if (orders && items) {
+            return;
+        }
+        if (orders || items) {
+            throw new IllegalStateException("주문 테이블이 일부만 파티션으로 전환됨 "
+                    + ORDER_TABLE + "=" + orders + ", " + ITEM_TABLE + "=" + items);
+        }
+        long start = System.currentTimeMillis();
+        LocalDateTime boundary;
+        try {
+            boundary = transactionTemplate.execute(tx -> convert());
+        } catch (Exception e) {
+            throw new IllegalStateException("주문 테이블 파티션 전환 실패", e);
+        }
+        if (!isPartitioned(ORDER_TABLE) || !isPartitioned(ITEM_TABLE)) {
+            throw new IllegalStateException("주문 테이블 파티션 전환 후 확인 실패");
+        }
+        log.info("주문 테이블 파티션 전환 완료 legacyUntil={} elapsedMs={}",
+                boundary, System.currentTimeMillis() - start);
+    }
+
+    private LocalDateTime convert() {
+        // 아이템의 파티션 키 (주문 일시 복사본), 파티셔닝을 쓸 때만 필요
+        jdbcTemplate.execute("ALTER TABLE " + ITEM_TABLE + " ADD COLUMN IF NOT EXISTS order_at timestamp(6)");
+
+        // legacy 파티션 상한: 기존 최대 orderAt 과 현재 중 늦은 쪽의 다음 달 1일
+        Timestamp maxOrderAt = jdbcTemplate.queryForObject("SELECT MAX(order_at) FROM " + ORDER_TABLE, Timestamp.class);
+        LocalDateTime latest = LocalDateTime.now();
+        if (maxOrderAt != null && maxOrderAt.toLocalDateTime().isAfter(latest)) {
+            latest = maxOrderAt.toLocalDateTime();
+        }
+        LocalDateTime boundary = YearMonth.from(latest).plusMonths(1).atDay(1).atStartOfDay();
+
+        // 아이템 → 주문 FK 는 파티션 키를 포함하도록 다시 만들어야 하므로 먼저 제거 (Hibernate 가 다시 만들지 않도록 이름은 유지)
+        List<String> fkNames = jdbcTemplate.queryForList("""
+                SELECT conname FROM pg_constraint
+                 WHERE contype = 'f' AND conrelid = 'purchase_order_item'::regclass
+                   AND confrelid = 'purchase_order'::regclass
+                """, String.class);
+        for (String fk : fkNames) {
+            jdbcTemplate.execute("ALTER TABLE " + ITEM_TABLE + " DROP CONSTRAINT " + fk);
+        }
+
+        // 컬럼 추가 이전에 생성된 아이템 채우기
+        jdbcTemplate.execute("""
+                UPDATE purchase_order_item i SET order_at = po.order_at
+                  FROM purchase_order po
+                 WHERE po.purchase_order_id = i.purchase_order_id AND i.order_at IS NULL
+                """);
+
+        toPartitioned(ORDER_TABLE, "purchase_order_id", boundary);
+        toPartitioned(ITEM_TABLE, "purchase_order_item_id", boundary);
+
+        String fkName = fkNames.isEmpty() ? DEFAULT_FK_NAME : fkNames.get(0);
+        jdbcTemplate.execute("ALTER TABLE " + ITEM_TABLE + " ADD CONSTRAINT " + fkName
+                + " FOREIGN KEY (purchase_order_id, order_at) REFERENCES " + ORDER_TABLE + " (purchase_order_id, order_at)");
+        return boundary;
+    }
+
+    private void toPartitioned(String table, String idColumn, LocalDateTime boundary) {
+        String legacy = table + LEGACY_SUFFIX;
+        jdbcTemplate.execute("ALTER TABLE " + table + " RENAME TO " + legacy);
+        // 보조 인덱스 이름을 비워 둠 → 이후 같은 이름의 파티션 인덱스를 만들면 동일한 legacy 인덱스가 그대로 붙음
+        List<String> indexes = jdbcTemplate.queryForList("""
+                SELECT i.relname FROM pg_index x
+                  JOIN pg_class i ON i.oid = x.indexrelid
+                 WHERE x.indrelid = ?::regclass AND NOT x.indisprimary
+                """, String.class, legacy);
+        for (String index : indexes) {
+            String renamed = index.length() > 55 ? index.substring(0, 55) : index;
+            jdbcTemplate.execute("ALTER INDEX " + index + " RENAME TO " + renamed + LEGACY_SUFFIX);
+        }
+
+        jdbcTemplate.execute("CREATE TABLE " + table + " (LIKE " + legacy + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS) "
+                + "PARTITION BY RANGE (order_at)");
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + table + "_part_pkey "
+                + "PRIMARY KEY (" + idColumn + ", order_at)");
+        jdbcTemplate.execute("ALTER TABLE " + legacy + " ADD CONSTRAINT " + legacy + "_bound "
+                + "CHECK (order_at IS NOT NULL AND order_at < '" + BOUND_FORMAT.format(boundary) + "')");
+        jdbcTemplate.execute("ALTER TABLE " + legacy + " ALTER COLUMN order_at SET NOT NULL"); // 위 CHECK 로 검증 스캔 생략
+        jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + legacy
+                + " FOR VALUES FROM (MINVALUE) TO ('" + BOUND_FORMAT.format(boundary) + "')");
+    }
+
+    /**
+     * 현재 달부터 months-ahead 개월까지 파티션이 없으면 생성
+     * 기존 파티션의 상한보다 앞선 달은 이미 덮여 있으므로 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${purchase.partition.interval-ms:21600000}",
+            initialDelayString = "${purchase.partition.initial-delay-ms:60000}")
+    public void maintain() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (!isPartitioned(ORDER_TABLE)) {
+                return;
+            }
+            // 주문 파티션을 먼저 만들어야 같은 달 아이템 INSERT 의 FK 가 맞음
+            createUpcoming(ORDER_TABLE);
+            createUpcoming(ITEM_TABLE);
+            if (detachAfterMonths > 0) {
+                detachExpired();
+            }
+        } catch (Exception e) {
+            log.warn("주문 파티션 관리 실패 cause={}", e.toString());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void createUpcoming(String table) {
+        LocalDateTime coveredUntil = partitions(table).stream()
+                .map(Partition::to)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(LocalDateTime.MIN);
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++, month = month.plusMonths(1)) {
+            LocalDateTime from = month.atDay(1).atStartOfDay();
+            if (from.isBefore(coveredUntil)) {
+                continue;
+            }
+            LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+            String name = table + "_p" + PARTITION_SUFFIX.format(month);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + table
+                    + " FOR VALUES FROM ('" + BOUND_FORMAT.format(from) + "') TO ('" + BOUND_FORMAT.format(to) + "')");
+            log.info("주문 파티션 생성 partition={} from={} to={}", name, from, to);
+        }
+    }
+
+    /**
+     * 상한이 보존 기준보다 앞선 파티션 분리 (아이템 파티션 → 주문 파티션 순)
+     * 아카이브되지 않은 행이 남은 파티션은 분리하지 않음 (진행 중 주문, 아카이브 보관 기간 전 종료 주문)
+     */
+    private void detachExpired() {
+        LocalDateTime cutoff = YearMonth.now().minusMonths(detachAfterMonths).atDay(1).atStartOfDay();
+        List<Partition> items = partitions(ITEM_TABLE);
+        for (Partition order : partitions(ORDER_TABLE)) {
+            if (order.to() == null || order.to().isAfter(cutoff)) {
+                continue;
+            }
+            List<Partition> sameRange = items.stream()
+                    .filter(item -> Objects.equals(item.from(), order.from()) && Objects.equals(item.to(), order.to()))
+                    .toList();
+            if (hasRows(order) || sameRange.stream().anyMatch(this::hasRows)) {
+                log.info("아카이브되지 않은 행이 남아 파티션을 분리하지 않음 partition={}", order.name());
+                continue;
+            }
+            for (Partition item : sameRange) {
+                detach(item);
+                // 분리된 아이템 테이블에 남은 FK 가 주문 파티션 분리를 막지 않도록 제거
+                jdbcTemplate.queryForList("SELECT conname FROM pg_constraint WHERE contype = 'f' "
+                                + "AND conrelid = ?::regclass", String.class, item.name())
+                        .forEach(fk -> jdbcTemplate.execute("ALTER TABLE " + item.name() + " DROP CONSTRAINT " + fk));
+            }
+            detach(order);
+        }
+    }
+
+    private boolean hasRows(Partition partition) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + partition.name() + ")", Boolean.class));
+    }
+
+    // CONCURRENTLY: 부모 테이블에 강한 잠금 없이 카탈로그만 변경 (트랜잭션 밖에서 실행)
+    private void detach(Partition partition) {
+        jdbcTemplate.execute("ALTER TABLE " + partition.table() + " DETACH PARTITION " + partition.name() + " CONCURRENTLY");
+        log.info("주문 파티션 분리 partition={} from={} to={}", partition.name(), partition.from(), partition.to());
+    }
+
+    public List<OrderPartitionDto> stats() {
+        if (!isPartitioned(ORDER_TABLE)) {
+            return List.of();
+        }
+        List<OrderPartitionDto> result = new ArrayList<>();
+        for (String table : List.of(ORDER_TABLE, ITEM_TABLE)) {
+            for (Partition partition : partitions(table)) {
+                result.add(jdbcTemplate.queryForObject("""
+                        SELECT reltuples::bigint AS approx_rows, pg_total_relation_size(oid) AS total_bytes
+                          FROM pg_class WHERE oid = ?::regclass
+                        """, (rs, n) -> OrderPartitionDto.builder()
+                        .table(partition.table())
+                        .partition(partition.name())
+                        .from(partition.from())
+                        .to(partition.to())
+                        .approxRows(rs.getLong("approx_rows"))
+                        .totalBytes(rs.getLong("total_bytes"))
+                        .build(), partition.name()));
+            }
+        }
+        return result;
+    }
+
+    private boolean isPartitioned(String table) {
+        String kind = jdbcTemplate.queryForList("SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)",
+                String.class, table).stream().findFirst().orElse(null);
+        return "p".equals(kind);
+    }
+
+    private List<Partition> partitions(String table) {
+        return jdbcTemplate.query("""
+                SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) AS bound
+                  FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                 WHERE i.inhparent = ?::regclass
+                 ORDER BY c.relname
+                """, (rs, n) -> {
+            Matcher m = BOUND.matcher(rs.getString("bound"));
+            return m.find()
+                    ? new Partition(table, rs.getString("relname"), parseBound(m.group(1)), parseBound(m.group(2)))
+                    : new Partition(table, rs.getString("relname"), null, null);
+        }, table);
+    }
+
+    // 'yyyy-MM-dd HH:mm:ss' 또는 MINVALUE/MAXVALUE(null)
+    private static LocalDateTime parseBound(String value) {
+        if (!value.startsWith("'")) {
+            return null;
+        }
+        return LocalDateTime.parse(value.substring(1, value.length() - 1).replace(' ', 'T'));
+    }
+}
@@ -13,6 +13,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -30,6 +31,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final CustomAuthEntryPoint customAuthEntryPoint;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -48,79 +50,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 return;
             }
 
-            Claims claims = jwtProvider.parse(accessToken);
-
-            // 토큰 타입 검증
-            String type = claims.get("type", String.class);
-
-            // service 토큰 검증
-            if ("service".equals(type)) {
-                String role = claims.get("role", String.class);
-                String subject = claims.getSubject(); // 토큰 발급자 정보 (auth-service)
-                if (role == null) {
-                    throw new CustomAuthenticationException(ErrorStatus.NULL_TOKEN_ROLE);
-                }
-                if (role.isBlank()) {
-                    throw new CustomAuthenticationException(ErrorStatus.BLANK_TOKEN_ROLE);
-                }
-                if (!role.startsWith("SVC_")) {
-                    throw new CustomAuthenticationException(ErrorStatus.NOT_SERVICE_TOKEN);
-                }
-
-                // Feign 내부 호출용 권한 통과
-                UsernamePasswordAuthenticationToken auth =
-                        new UsernamePasswordAuthenticationToken(
-                                subject,
-                                null,
-                                List.of(new SimpleGrantedAuthority(role))
-                        );
-                SecurityContextHolder.getContext().setAuthentication(auth);
-                // service 토큰은 더 이상 검증할 필요 없음
-                filterChain.doFilter(request, response);
-                return;
-            }
-
-            // 그 외 토큰 (refresh) 예외 처리
-            if ("refresh".equals(type)) {
-                SecurityContextHolder.clearContext(); // 인증 정보 제거
-                throw new CustomAuthenticationException(ErrorStatus.NOT_ACCESS_TOKEN);
-            }
-
-            // 토큰에서 userId, role 가져오기
-            String userId = claims.getSubject();
-            String roleStr = claims.get("role", String.class);
-            String workspaceStr = claims.get("workspace", String.class);
-            if (userId == null
-                    || userId.isBlank()
-                    || roleStr == null
-                    || roleStr.isBlank()
-                    || workspaceStr == null
-                    || workspaceStr.isBlank()
-            ) {
-                throw new CustomAuthenticationException(ErrorStatus.INVALID_TOKEN);
+            // 검증된 토큰이면 서명 검증/클레임 해석 생략
+            String cacheKey = verifiedTokenCache.keyOf(accessToken);
+            Authentication authentication = verifiedTokenCache.get(cacheKey);
+            if (authentication == null) {
+                Claims claims = jwtProvider.parse(accessToken);
+                authentication = toAuthentication(claims);
+                verifiedTokenCache.put(cacheKey, authentication, claims.getExpiration());
             }
-
-            Role role;
-            Workspace workspace;
-            try {
-                role = Role.valueOf(roleStr);
-                workspace = Workspace.valueOf(workspaceStr);
-            } catch (IllegalArgumentException ex) {
-                throw new CustomAuthenticationException(ErrorStatus.INVALID_TOKEN);
-            }
-
-            // 권한 매핑 (Enum Role → Security 권한명)
-            String roleAuthority = "ROLE_" + role.name();
-            String workspaceAuthority = "ROLE_" + workspace.name();
-
-            // GrantedAuthority 리스트 생성
-            List<GrantedAuthority> authorities = new ArrayList<>();
-            authorities.add(new SimpleGrantedAuthority(roleAuthority));
-            authorities.add(new SimpleGrantedAuthority(workspaceAuthority));
-
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    userId, null, authorities
-            );
             SecurityContextHolder.getContext().setAuthentication(authentication);
             filterChain.doFilter(request, response);
         } catch (CustomAuthenticationException ex) {
@@ -132,4 +69,71 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                     new CustomAuthenticationException(ErrorStatus.INVALID_TOKEN));
         }
     }
+
+    private Authentication toAuthentication(Claims claims) {
+        // 토큰 타입 검증
+        String type = claims.get("type", String.class);
+
+        // service 토큰 검증
+        if ("service".equals(type)) {
+            String role = claims.get("role", String.class);
+            String subject = claims.getSubject(); // 토큰 발급자 정보 (auth-service)
+            if (role == null) {
+                throw new CustomAuthenticationException(ErrorStatus.NULL_TOKEN_ROLE);
+            }
+            if (role.isBlank()) {
+                throw new CustomAuthenticationException(ErrorStatus.BLANK_TOKEN_ROLE);
+            }
+            if (!role.startsWith("SVC_")) {
+                throw new CustomAuthenticationException(ErrorStatus.NOT_SERVICE_TOKEN);
+            }
+
+            // Feign 내부 호출용 권한 통과
+            return new UsernamePasswordAuthenticationToken(
+                    subject,
+                    null,
+                    List.of(new SimpleGrantedAuthority(role))
+            );
+        }
+
+        // 그 외 토큰 (refresh) 예외 처리
+        if ("refresh".equals(type)) {
+            SecurityContextHolder.clearContext(); // 인증 정보 제거
+            throw new CustomAuthenticationException(ErrorStatus.NOT_ACCESS_TOKEN);
+        }
+
+        // 토큰에서 userId, role 가져오기
+        String userId = claims.getSubject();
+        String roleStr = claims.get("role", String.class);
+        String workspaceStr = claims.get("workspace", String.class);
+        if (userId == null
+                || userId.isBlank()
+                || roleStr == null
+                || roleStr.isBlank()
+                || workspaceStr == null
+                || workspaceStr.isBlank()
+        ) {
+            throw new CustomAuthenticationException(ErrorStatus.INVALID_TOKEN);
+        }
+
+        Role role;
+        Workspace workspace;
+        try {
+            role = Role.valueOf(roleStr);
+            workspace = Workspace.valueOf(workspaceStr);
+        } catch (IllegalArgumentException ex) {
+            throw new CustomAuthenticationException(ErrorStatus.INVALID_TOKEN);
+        }
+
+        // 권한 매핑 (Enum Role → Security 권한명)
+        String roleAuthority = "ROLE_" + role.name();
+        String workspaceAuthority = "ROLE_" + workspace.name();
+
+        // GrantedAuthority 리스트 생성
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority(roleAuthority));
+        authorities.add(new SimpleGrantedAuthority(workspaceAuthority));
+
+        return new UsernamePasswordAuthenticationToken(userId, null, authorities);
+    }
 }
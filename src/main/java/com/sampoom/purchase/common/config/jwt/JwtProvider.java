@@ -20,6 +20,7 @@ import java.util.Base64;
 public class JwtProvider {
 //    private final Key key;
     private final PublicKey publicKey;
+    private final JwtParser parser; // 불변/스레드 안전 → 한 번만 생성
 
     public JwtProvider(@Value("${jwt.public-key-base64}") String publicKeyBase64) {
         if (publicKeyBase64 == null || publicKeyBase64.isBlank()) {
@@ -32,7 +33,7 @@ public class JwtProvider {
         } catch (Exception e) {
             throw new BadRequestException(ErrorStatus.INVALID_PUBLIC_KEY);
         }
-
+        this.parser = Jwts.parserBuilder().setSigningKey(publicKey).build();
     }
 
     private PublicKey loadPublicKey(String base64) throws Exception {
@@ -58,8 +59,7 @@ public class JwtProvider {
             throw new BadRequestException(ErrorStatus.NULL_BLANK_TOKEN);
         }
         try{
-            return Jwts.parserBuilder().setSigningKey(publicKey).build()
-                    .parseClaimsJws(token).getBody();
+            return parser.parseClaimsJws(token).getBody();
         }
         catch (ExpiredJwtException e) {
             throw new CustomAuthenticationException(ErrorStatus.EXPIRED_TOKEN);
@@ -0,0 +1,19 @@
+package com.sampoom.purchase.common.config.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenCacheStatsDto {
+    private boolean enabled;
+    private int entries;
+    private long hits;      // 서명 검증 생략
+    private long misses;    // 서명 검증 수행
+    private long evictions;
+    private double hitRate;
+}
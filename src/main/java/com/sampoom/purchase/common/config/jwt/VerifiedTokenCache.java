@@ -0,0 +1,63 @@
+package com.sampoom.purchase.common.config.jwt;
+
+import com.sampoom.purchase.common.cache.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 토큰의 인증 정보 캐시
+ * - 키는 토큰 원문 대신 SHA-256 해시 (메모리에 토큰을 그대로 남기지 않음)
+ * - 항목은 토큰 exp 시각에 만료 (max-ttl-ms 로 상한), 만료/위조 토큰은 캐시에 들어가지 않음
+ * - 같은 토큰으로 반복 요청하면 RSA 서명 검증 없이 저장된 Authentication 을 그대로 사용
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final BoundedTtlCache<String, Authentication> cache;
+
+    public VerifiedTokenCache(@Value("${purchase.jwt-cache.enabled:true}") boolean enabled,
+                              @Value("${purchase.jwt-cache.max-size:10000}") int maxSize,
+                              @Value("${purchase.jwt-cache.max-ttl-ms:600000}") long maxTtlMs) {
+        this.enabled = enabled;
+        this.cache = new BoundedTtlCache<>(maxSize, maxTtlMs);
+    }
+
+    public String keyOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // JDK 기본 제공 알고리즘
+        }
+    }
+
+    public Authentication get(String key) {
+        return enabled ? cache.get(key) : null;
+    }
+
+    public void put(String key, Authentication authentication, Date expiration) {
+        if (!enabled) {
+            return;
+        }
+        cache.put(key, authentication, expiration == null ? Long.MAX_VALUE : expiration.getTime());
+    }
+
+    public TokenCacheStatsDto stats() {
+        return TokenCacheStatsDto.builder()
+                .enabled(enabled)
+                .entries(cache.size())
+                .hits(cache.hitCount())
+                .misses(cache.missCount())
+                .evictions(cache.evictionCount())
+                .hitRate(cache.hitRate())
+                .build();
+    }
+}
@@ -29,6 +29,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // Feign용 POST만 허용
                         .requestMatchers(HttpMethod.POST, "/internal/**").hasAuthority("SVC_AUTH")
+                        // 내부 운영 지표 조회
+                        .requestMatchers(HttpMethod.GET, "/internal/**").hasAnyAuthority("SVC_AUTH", "ROLE_ADMIN")
                         .requestMatchers(
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
@@ -0,0 +1,8 @@
+package com.sampoom.purchase.common.event;
+
+/**
+ * 아웃박스 행 기록 알림 (프로세스 내부용)
+ * - 커밋 직후 발행기를 깨워 폴링 주기를 기다리지 않고 바로 전송
+ */
+public record OutboxEnqueuedEvent(int count) {
+}
@@ -0,0 +1,19 @@
+package com.sampoom.purchase.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxLaneStatsDto {
+    private int lane;
+    private int queueDepth;           // 레인에 배정되어 아직 결과가 나지 않은 행
+    private long published;
+    private long failed;
+    private long skipped;             // 같은 주문의 앞선 실패로 보류된 행
+    private long publishedLastMinute;
+}
@@ -0,0 +1,203 @@
+package com.sampoom.purchase.common.event;
+
+import com.sampoom.purchase.common.metrics.RollingCounter;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 아웃박스 발행 레인
+ * - aggregateId 해시로 N 개 레인(단일 스레드)에 나눠 병렬 전송 → 느린 send 는 자기 레인만 막음
+ * - 같은 주문의 이벤트는 항상 같은 레인에서 순서대로, 앞 이벤트가 ack 된 뒤에 다음 이벤트 전송
+ * - 앞 이벤트가 실패하면 같은 주문의 뒤 이벤트는 보내지 않음(SKIPPED) → 다른 주문은 계속 진행
+ * - 대기 시간이 지나면 배치를 취소: 아직 보내지 않은 행은 보내지 않고 SKIPPED
+ *   (시간 초과로 재시도될 이벤트보다 같은 주문의 뒤 이벤트가 먼저 나가지 않도록)
+ */
+@Component
+public class OutboxLanes {
+
+    public enum Result {
+        PUBLISHED,
+        FAILED,
+        SKIPPED // 같은 주문의 앞선 이벤트 실패로 보내지 않음
+    }
+
+    public record Outcome(Result result, Throwable cause) {
+    }
+
+    /**
+     * 배치 하나의 취소 상태: 취소 확인과 전송 시작 표시를 같은 잠금으로 묶어
+     * 취소 시점에 "보내지 않은 행"을 정확히 구분
+     */
+    private static final class Dispatch {
+        private final Map<Long, Outcome> outcomes = new ConcurrentHashMap<>();
+        private final Set<Long> started = new HashSet<>();
+        private boolean cancelled;
+
+        synchronized boolean tryStart(Long rowId) {
+            if (cancelled) {
+                return false;
+            }
+            started.add(rowId);
+            return true;
+        }
+
+        synchronized Set<Long> cancel() {
+            cancelled = true;
+            return Set.copyOf(started);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Sender {
+        CompletableFuture<?> send(PurchaseOutbox row) throws Exception;
+    }
+
+    private final Lane[] lanes;
+
+    public OutboxLanes(@Value("${purchase.outbox.lanes:4}") int laneCount) {
+        this.lanes = new Lane[Math.max(1, laneCount)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i);
+        }
+    }
+
+    /**
+     * 배치를 레인에 나눠 전송하고 최대 timeoutMs 동안 대기
+     * @param batch occurredAt 순으로 정렬된 행
+     * @return 행 ID → 결과 (반환 시점 스냅샷)
+     *         시간 안에 전송하지 못한 행은 SKIPPED, 전송했지만 ack 가 오지 않은 행은 포함되지 않음
+     */
+    public Map<Long, Outcome> dispatch(List<PurchaseOutbox> batch, Sender sender, long timeoutMs)
+            throws InterruptedException {
+        Dispatch dispatch = new Dispatch();
+
+        // 레인 → 주문 → 행 (입력 순서 유지)
+        Map<Integer, Map<Long, List<PurchaseOutbox>>> byLane = new LinkedHashMap<>();
+        for (PurchaseOutbox row : batch) {
+            byLane.computeIfAbsent(laneOf(row.getAggregateId()), l -> new LinkedHashMap<>())
+                    .computeIfAbsent(row.getAggregateId(), a -> new ArrayList<>())
+                    .add(row);
+        }
+
+        List<CompletableFuture<Boolean>> chains = new ArrayList<>();
+        byLane.forEach((index, byAggregate) -> {
+            Lane lane = lanes[index];
+            byAggregate.values().forEach(rows -> {
+                lane.queued.addAndGet(rows.size());
+                CompletableFuture<Boolean> chain = CompletableFuture.completedFuture(true);
+                for (PurchaseOutbox row : rows) {
+                    chain = chain.thenComposeAsync(previousOk -> previousOk && dispatch.tryStart(row.getId())
+                            ? lane.send(row, sender, dispatch.outcomes)
+                            : lane.skip(row, dispatch.outcomes), lane.executor);
+                }
+                chains.add(chain);
+            });
+        });
+
+        try {
+            CompletableFuture.allOf(chains.toArray(new CompletableFuture[0])).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // 아래에서 취소 처리
+        } finally {
+            // 남은 체인은 이후 전송하지 않고 SKIPPED 로 끝남 (큐 카운터 정리를 위해 체인 자체는 계속 흘러감)
+            Set<Long> started = dispatch.cancel();
+            for (PurchaseOutbox row : batch) {
+                if (!started.contains(row.getId())) {
+                    dispatch.outcomes.putIfAbsent(row.getId(), new Outcome(Result.SKIPPED, null));
+                }
+            }
+        }
+        // 전송했지만 ack 가 없는 행은 결과 없음 → 호출 측에서 실패로 처리 (같은 주문의 뒤 행은 보내지 않았으므로 순서 유지)
+        return Map.copyOf(dispatch.outcomes);
+    }
+
+    public List<OutboxLaneStatsDto> stats() {
+        List<OutboxLaneStatsDto> result = new ArrayList<>(lanes.length);
+        for (Lane lane : lanes) {
+            result.add(OutboxLaneStatsDto.builder()
+                    .lane(lane.index)
+                    .queueDepth(lane.queued.get())
+                    .published(lane.published.sum())
+                    .failed(lane.failed.sum())
+                    .skipped(lane.skipped.sum())
+                    .publishedLastMinute(lane.recent.lastMinute())
+                    .build());
+        }
+        return result;
+    }
+
+    private int laneOf(Long aggregateId) {
+        return Math.floorMod(Long.hashCode(aggregateId), lanes.length);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (Lane lane : lanes) {
+            lane.executor.shutdown();
+        }
+    }
+
+    private static final class Lane {
+        private final int index;
+        private final ExecutorService executor;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final LongAdder published = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final RollingCounter recent = new RollingCounter();
+
+        private Lane(int index) {
+            this.index = index;
+            this.executor = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "outbox-lane-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private CompletableFuture<Boolean> send(PurchaseOutbox row, Sender sender, Map<Long, Outcome> outcomes) {
+            CompletableFuture<?> sent;
+            try {
+                sent = sender.send(row);
+            } catch (Exception e) {
+                sent = CompletableFuture.failedFuture(e);
+            }
+            return sent.handle((result, ex) -> {
+                queued.decrementAndGet();
+                if (ex == null) {
+                    outcomes.put(row.getId(), new Outcome(Result.PUBLISHED, null));
+                    published.increment();
+                    recent.increment();
+                    return true;
+                }
+                outcomes.put(row.getId(), new Outcome(Result.FAILED, ex));
+                failed.increment();
+                return false;
+            });
+        }
+
+        private CompletableFuture<Boolean> skip(PurchaseOutbox row, Map<Long, Outcome> outcomes) {
+            queued.decrementAndGet();
+            outcomes.put(row.getId(), new Outcome(Result.SKIPPED, null));
+            skipped.increment();
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+}
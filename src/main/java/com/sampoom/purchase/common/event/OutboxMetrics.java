@@ -0,0 +1,127 @@
+package com.sampoom.purchase.common.event;
+
+import com.sampoom.purchase.common.metrics.LatencyHistogram;
+import com.sampoom.purchase.common.metrics.RollingCounter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 아웃박스 발행 지표
+ * - 발행 경로에서는 LongAdder / AtomicLongArray 증가만 하므로 잠금/할당 없이 기록
+ * - 상태별 행 수와 가장 오래된 대기 행은 조회 시점에 DB 에서 계산
+ */
+@Component
+public class OutboxMetrics {
+
+    static final int MAX_TRACKED_RETRY = 16; // 이상은 마지막 칸에 합산
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final LatencyHistogram commitToPublish = new LatencyHistogram();
+    private final LatencyHistogram sendLatency = new LatencyHistogram();
+    private final AtomicLongArray retriesAtPublish = new AtomicLongArray(MAX_TRACKED_RETRY + 1);
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dead = new LongAdder();
+    private final RollingCounter publishedRecent = new RollingCounter();
+    private final RollingCounter deadRecent = new RollingCounter();
+
+    private volatile String deliveryMode;
+
+    public OutboxMetrics(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void setDeliveryMode(String deliveryMode) {
+        this.deliveryMode = deliveryMode;
+    }
+
+    public void recordSend(long elapsedNanos) {
+        sendLatency.record(elapsedNanos / 1_000_000);
+    }
+
+    public void recordPublished(PurchaseOutbox o, LocalDateTime publishedAt) {
+        published.increment();
+        publishedRecent.increment();
+        commitToPublish.record(Duration.between(o.getOccurredAt(), publishedAt).toMillis());
+        int retries = o.getRetryCount() == null ? 0 : o.getRetryCount();
+        retriesAtPublish.incrementAndGet(Math.min(retries, MAX_TRACKED_RETRY));
+    }
+
+    public void recordFailed() {
+        failed.increment();
+    }
+
+    public void recordDead() {
+        dead.increment();
+        deadRecent.increment();
+    }
+
+    public OutboxMetricsDto snapshot() {
+        Map<String, Long> rowsByStatus = new LinkedHashMap<>();
+        for (OutboxStatus status : OutboxStatus.values()) {
+            rowsByStatus.put(status.name(), 0L);
+        }
+        LocalDateTime[] oldest = new LocalDateTime[2]; // READY, READY+FAILED
+        jdbcTemplate.query("""
+                SELECT status, COUNT(*) AS cnt, MIN(occurred_at) AS oldest
+                  FROM purchase_outbox
+                 GROUP BY status
+                """, (RowCallbackHandler) rs -> {
+            String status = rs.getString("status");
+            rowsByStatus.put(status, rs.getLong("cnt"));
+            Timestamp ts = rs.getTimestamp("oldest");
+            if (ts == null) {
+                return;
+            }
+            LocalDateTime at = ts.toLocalDateTime();
+            if (OutboxStatus.READY.name().equals(status)) {
+                oldest[0] = at;
+            }
+            if ((OutboxStatus.READY.name().equals(status) || OutboxStatus.FAILED.name().equals(status))
+                    && (oldest[1] == null || at.isBefore(oldest[1]))) {
+                oldest[1] = at;
+            }
+        });
+
+        Map<Integer, Long> retries = new LinkedHashMap<>();
+        for (int i = 0; i < retriesAtPublish.length(); i++) {
+            long count = retriesAtPublish.get(i);
+            if (count > 0) {
+                retries.put(i, count);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long publishedTotal = published.sum();
+        long deadTotal = dead.sum();
+        return OutboxMetricsDto.builder()
+                .deliveryMode(deliveryMode)
+                .rowsByStatus(rowsByStatus)
+                .oldestReadyAgeMs(ageMs(oldest[0], now))
+                .oldestPendingAgeMs(ageMs(oldest[1], now))
+                .commitToPublish(commitToPublish.snapshot())
+                .sendLatency(sendLatency.snapshot())
+                .retriesAtPublish(retries)
+                .publishedTotal(publishedTotal)
+                .failedTotal(failed.sum())
+                .deadTotal(deadTotal)
+                .publishedLastMinute(publishedRecent.lastMinute())
+                .deadLastMinute(deadRecent.lastMinute())
+                .deadRate(publishedTotal + deadTotal == 0 ? 0.0 : (double) deadTotal / (publishedTotal + deadTotal))
+                .build();
+    }
+
+    private static Long ageMs(LocalDateTime at, LocalDateTime now) {
+        return at == null ? null : Math.max(0, Duration.between(at, now).toMillis());
+    }
+}
@@ -0,0 +1,31 @@
+package com.sampoom.purchase.common.event;
+
+import com.sampoom.purchase.common.metrics.HistogramSnapshotDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMetricsDto {
+    private String deliveryMode;        // at-least-once | exactly-once
+    private Map<String, Long> rowsByStatus;
+    private Long oldestReadyAgeMs;      // READY 가 없으면 null
+    private Long oldestPendingAgeMs;    // READY + FAILED
+
+    private HistogramSnapshotDto commitToPublish; // 기록 → 발행 확인
+    private HistogramSnapshotDto sendLatency;     // send → ack
+    private Map<Integer, Long> retriesAtPublish;  // 발행 성공 시점의 재시도 횟수 분포
+
+    private long publishedTotal;
+    private long failedTotal;
+    private long deadTotal;
+    private long publishedLastMinute;
+    private long deadLastMinute;
+    private double deadRate;            // dead / (published + dead), 이 인스턴스 기동 이후
+}
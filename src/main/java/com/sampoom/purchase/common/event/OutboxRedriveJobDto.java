@@ -0,0 +1,25 @@
+package com.sampoom.purchase.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxRedriveJobDto {
+    private UUID jobId;
+    private String status;          // RUNNING, COMPLETED, CANCELLED, FAILED
+    private int ratePerSecond;
+    private long matchedRows;       // 시작 시점의 대상 DEAD 행 수
+    private long redrivenRows;      // READY 로 되돌린 행 수
+    private double progress;        // 0.0 ~ 1.0
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
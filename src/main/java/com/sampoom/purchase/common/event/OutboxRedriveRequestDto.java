@@ -0,0 +1,21 @@
+package com.sampoom.purchase.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxRedriveRequestDto {
+    private String eventType;           // null 이면 전체
+    private Long aggregateIdFrom;       // 포함
+    private Long aggregateIdTo;         // 포함
+    private LocalDateTime occurredFrom; // 포함
+    private LocalDateTime occurredTo;   // 미포함
+    private Integer ratePerSecond;      // null 이면 기본값
+}
@@ -0,0 +1,232 @@
+package com.sampoom.purchase.common.event;
+
+import com.sampoom.purchase.common.exception.ConflictException;
+import com.sampoom.purchase.common.exception.NotFoundException;
+import com.sampoom.purchase.common.response.ErrorStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DEAD 아웃박스 재발행 (redrive)
+ * - 조건(이벤트 타입, 주문 ID 범위, 발생 시각)에 맞는 DEAD 행을 READY 로 되돌려 발행기가 다시 보내게 함
+ * - 초당 행 수 제한으로 배치마다 쉬어 복구 중인 브로커에 한꺼번에 몰리지 않게 함
+ * - 한 주문의 대상 행은 같은 배치에서 함께 되돌림 → 발행기가 occurred_at 순으로 주문별 순서를 지켜 전송
+ *   (원래 발생 시각을 유지하므로 이미 발행된 이후 이벤트보다 늦게 도착할 수 있음, 소비 측은 event-id/발생 시각으로 판단)
+ * - 작업 상태는 실행한 인스턴스 메모리에만 보관
+ */
+@Slf4j
+@Service
+public class OutboxRedriveService {
+
+    private static final int MAX_KEPT_JOBS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int defaultRatePerSecond;
+    private final int maxRatePerSecond;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "outbox-redrive");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<UUID, Job> jobs = new LinkedHashMap<>();
+    private Job running;
+
+    public OutboxRedriveService(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${purchase.outbox.redrive.rate-per-second:200}") int defaultRatePerSecond,
+                                @Value("${purchase.outbox.redrive.max-rate-per-second:2000}") int maxRatePerSecond) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.defaultRatePerSecond = Math.max(1, defaultRatePerSecond);
+        this.maxRatePerSecond = Math.max(this.defaultRatePerSecond, maxRatePerSecond);
+    }
+
+    public synchronized OutboxRedriveJobDto start(OutboxRedriveRequestDto request) {
+        if (running != null && running.isActive()) {
+            throw new ConflictException(ErrorStatus.OUTBOX_REDRIVE_IN_PROGRESS);
+        }
+        int rate = request.getRatePerSecond() == null
+                ? defaultRatePerSecond
+                : Math.min(Math.max(1, request.getRatePerSecond()), maxRatePerSecond);
+
+        List<Object> params = new ArrayList<>();
+        String filter = buildFilter(request, params);
+        Long matched = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM purchase_outbox o WHERE o.status = 'DEAD'" + filter, Long.class, params.toArray());
+
+        Job job = new Job(UUID.randomUUID(), rate, matched == null ? 0 : matched);
+        jobs.put(job.id, job);
+        while (jobs.size() > MAX_KEPT_JOBS) {
+            jobs.remove(jobs.keySet().iterator().next());
+        }
+        running = job;
+        executor.submit(() -> run(job, filter, params));
+        log.info("Outbox redrive started job={} matched={} ratePerSecond={}", job.id, job.matched, rate);
+        return job.toDto();
+    }
+
+    public synchronized OutboxRedriveJobDto get(UUID jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new NotFoundException(ErrorStatus.OUTBOX_REDRIVE_JOB_NOT_FOUND);
+        }
+        return job.toDto();
+    }
+
+    public synchronized List<OutboxRedriveJobDto> list() {
+        List<OutboxRedriveJobDto> result = new ArrayList<>(jobs.size());
+        jobs.values().forEach(job -> result.add(0, job.toDto())); // 최근 작업 먼저
+        return result;
+    }
+
+    public synchronized OutboxRedriveJobDto cancel(UUID jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new NotFoundException(ErrorStatus.OUTBOX_REDRIVE_JOB_NOT_FOUND);
+        }
+        job.cancelRequested = true;
+        return job.toDto();
+    }
+
+    private void run(Job job, String filter, List<Object> filterParams) {
+        // 배치 하나에 들어갈 주문 수, 주문마다 대상 행이 여러 개면 쉬는 시간이 그만큼 늘어남
+        int aggregatesPerBatch = Math.max(1, Math.min(job.rate, 500));
+        String sql = """
+                WITH targets AS (
+                    SELECT DISTINCT o.aggregate_id FROM purchase_outbox o
+                     WHERE o.status = 'DEAD'%1$s
+                     LIMIT ?)
+                UPDATE purchase_outbox o
+                   SET status = 'READY', retry_count = 0, last_error = NULL, next_retry_at = NULL,
+                       lease_token = NULL, lease_until = NULL
+                 WHERE o.status = 'DEAD'%1$s
+                   AND o.aggregate_id IN (SELECT aggregate_id FROM targets)
+                """.formatted(filter);
+        List<Object> params = new ArrayList<>(filterParams);
+        params.add(aggregatesPerBatch);
+        params.addAll(filterParams);
+        Object[] args = params.toArray();
+
+        try {
+            while (!job.cancelRequested) {
+                long start = System.currentTimeMillis();
+                Integer updated = transactionTemplate.execute(tx -> jdbcTemplate.update(sql, args));
+                int count = updated == null ? 0 : updated;
+                if (count == 0) {
+                    break;
+                }
+                job.redriven.addAndGet(count);
+                eventPublisher.publishEvent(new OutboxEnqueuedEvent(count)); // 트랜잭션 밖 → 즉시 발행기 깨움
+
+                long budgetMs = count * 1000L / job.rate;
+                long sleepMs = budgetMs - (System.currentTimeMillis() - start);
+                if (sleepMs > 0) {
+                    Thread.sleep(sleepMs);
+                }
+            }
+            job.finish(job.cancelRequested ? "CANCELLED" : "COMPLETED", null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish("CANCELLED", "interrupted");
+        } catch (Exception e) {
+            log.warn("Outbox redrive failed job={} cause={}", job.id, e.toString());
+            job.finish("FAILED", e.toString());
+        }
+        log.info("Outbox redrive {} job={} redriven={}/{}", job.status, job.id, job.redriven.get(), job.matched);
+    }
+
+    private static String buildFilter(OutboxRedriveRequestDto request, List<Object> params) {
+        StringBuilder sql = new StringBuilder();
+        if (request.getEventType() != null && !request.getEventType().isBlank()) {
+            sql.append(" AND o.event_type = ?");
+            params.add(request.getEventType().trim());
+        }
+        if (request.getAggregateIdFrom() != null) {
+            sql.append(" AND o.aggregate_id >= ?");
+            params.add(request.getAggregateIdFrom());
+        }
+        if (request.getAggregateIdTo() != null) {
+            sql.append(" AND o.aggregate_id <= ?");
+            params.add(request.getAggregateIdTo());
+        }
+        if (request.getOccurredFrom() != null) {
+            sql.append(" AND o.occurred_at >= ?");
+            params.add(Timestamp.valueOf(request.getOccurredFrom()));
+        }
+        if (request.getOccurredTo() != null) {
+            sql.append(" AND o.occurred_at < ?");
+            params.add(Timestamp.valueOf(request.getOccurredTo()));
+        }
+        return sql.toString();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class Job {
+        private final UUID id;
+        private final int rate;
+        private final long matched;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong redriven = new AtomicLong();
+        private volatile boolean cancelRequested;
+        private volatile String status = "RUNNING";
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private Job(UUID id, int rate, long matched) {
+            this.id = id;
+            this.rate = rate;
+            this.matched = matched;
+        }
+
+        private boolean isActive() {
+            return "RUNNING".equals(status);
+        }
+
+        private void finish(String status, String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private OutboxRedriveJobDto toDto() {
+            long done = redriven.get();
+            return OutboxRedriveJobDto.builder()
+                    .jobId(id)
+                    .status(status)
+                    .ratePerSecond(rate)
+                    .matchedRows(matched)
+                    .redrivenRows(done)
+                    .progress(matched == 0 ? 1.0 : Math.min(1.0, (double) done / matched))
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.sampoom.purchase.common.event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 아웃박스 보존 기간 관리
+ * - 종료 상태(PUBLISHED, DEAD)만 상태별 보존 기간이 지나면 삭제, READY/FAILED 는 삭제하지 않음
+ * - 짧은 트랜잭션의 작은 배치(SKIP LOCKED)로 나눠 지우고 배치 사이에 쉬어 긴 잠금/복제 지연을 피함
+ * - archive-dir 를 지정하면 DEAD 행은 삭제 전에 gzip NDJSON 파일로 보관
+ * - 배치 루프(배치 사이 대기 포함)는 전용 스레드에서 실행 → 공용 스케줄러 스레드를 막지 않음
+ */
+@Slf4j
+@Component
+public class OutboxRetentionService {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<OutboxStatus, Duration> retention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long batchPauseMs;
+    private final Path archiveDir; // null 이면 보관하지 않음
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "outbox-retention");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final LongAdder purgedTotal = new LongAdder();
+    private final LongAdder archivedTotal = new LongAdder();
+    private volatile long lastRunPurged;
+    private volatile long lastRunMs;
+
+    public OutboxRetentionService(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper,
+                                  @Value("${purchase.outbox.retention.published-hours:72}") long publishedHours,
+                                  @Value("${purchase.outbox.retention.dead-days:30}") long deadDays,
+                                  @Value("${purchase.outbox.retention.batch-size:1000}") int batchSize,
+                                  @Value("${purchase.outbox.retention.max-batches-per-run:200}") int maxBatchesPerRun,
+                                  @Value("${purchase.outbox.retention.batch-pause-ms:50}") long batchPauseMs,
+                                  @Value("${purchase.outbox.retention.archive-dir:}") String archiveDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.retention = Map.of(
+                OutboxStatus.PUBLISHED, Duration.ofHours(publishedHours),
+                OutboxStatus.DEAD, Duration.ofDays(deadDays));
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPauseMs = batchPauseMs;
+        this.archiveDir = archiveDir.isBlank() ? null : Path.of(archiveDir);
+    }
+
+    @Scheduled(fixedDelayString = "${purchase.outbox.retention.interval-ms:300000}",
+            initialDelayString = "${purchase.outbox.retention.initial-delay-ms:60000}")
+    public void purge() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        executor.submit(this::runPurge);
+    }
+
+    private void runPurge() {
+        long start = System.currentTimeMillis();
+        long purged = 0;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            purged += purgeStatus(OutboxStatus.PUBLISHED, now.minus(retention.get(OutboxStatus.PUBLISHED)), false);
+            purged += purgeStatus(OutboxStatus.DEAD, now.minus(retention.get(OutboxStatus.DEAD)), archiveDir != null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Outbox retention run failed cause={}", e.toString());
+        } finally {
+            lastRunPurged = purged;
+            lastRunMs = System.currentTimeMillis() - start;
+            running.set(false);
+        }
+        if (purged > 0) {
+            log.info("Outbox retention purged={} elapsedMs={} ratePerSec={}",
+                    purged, lastRunMs, String.format("%.1f", lastPurgeRatePerSecond()));
+        }
+    }
+
+    private long purgeStatus(OutboxStatus status, LocalDateTime cutoff, boolean archive) throws InterruptedException {
+        long purged = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer deleted = transactionTemplate.execute(tx -> archive
+                    ? archiveAndDeleteBatch(status, cutoff)
+                    : deleteBatch(status, cutoff));
+            int count = deleted == null ? 0 : deleted;
+            purged += count;
+            purgedTotal.add(count);
+            if (count < batchSize) {
+                break;
+            }
+            Thread.sleep(batchPauseMs);
+        }
+        return purged;
+    }
+
+    // 종료 시각 기준: PUBLISHED 는 발행 시각, DEAD 는 마지막 시도 시각
+    private static String finishedAt(OutboxStatus status) {
+        return status == OutboxStatus.PUBLISHED ? "published_at" : "COALESCE(last_tried_at, occurred_at)";
+    }
+
+    private int deleteBatch(OutboxStatus status, LocalDateTime cutoff) {
+        return jdbcTemplate.update("""
+                DELETE FROM purchase_outbox
+                 WHERE purchase_outbox_id IN (
+                       SELECT purchase_outbox_id FROM purchase_outbox
+                        WHERE status = ? AND %s < ?
+                        LIMIT ?
+                          FOR UPDATE SKIP LOCKED)
+                """.formatted(finishedAt(status)), status.name(), Timestamp.valueOf(cutoff), batchSize);
+    }
+
+    private int archiveAndDeleteBatch(OutboxStatus status, LocalDateTime cutoff) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT purchase_outbox_id, event_id, event_type, aggregate_id, status, occurred_at,
+                       retry_count, last_error, last_tried_at, content_type,
+                       COALESCE(payload::text,
+                                CASE WHEN content_type = 'application/json' THEN convert_from(payload_bytes, 'UTF8') END)
+                           AS payload,
+                       CASE WHEN content_type <> 'application/json' THEN encode(payload_bytes, 'base64') END
+                           AS payload_base64
+                  FROM purchase_outbox
+                 WHERE status = ? AND %s < ?
+                 ORDER BY purchase_outbox_id
+                 LIMIT ?
+                   FOR UPDATE SKIP LOCKED
+                """.formatted(finishedAt(status)), status.name(), Timestamp.valueOf(cutoff), batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        writeArchive(rows);
+
+        List<Object[]> ids = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            ids.add(new Object[]{row.get("purchase_outbox_id")});
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM purchase_outbox WHERE purchase_outbox_id = ?", ids);
+        archivedTotal.add(rows.size());
+        return rows.size();
+    }
+
+    // 배치마다 파일 하나 (삭제 트랜잭션이 실패하면 다음 실행에서 다시 보관되어 중복될 수 있음)
+    private void writeArchive(List<Map<String, Object>> rows) {
+        Path file = archiveDir.resolve("purchase-outbox-dead-" + LocalDateTime.now().format(FILE_TIME) + ".ndjson.gz");
+        try {
+            Files.createDirectories(archiveDir);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE_NEW));
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                for (Map<String, Object> row : rows) {
+                    generator.writeStartObject();
+                    for (Map.Entry<String, Object> column : row.entrySet()) {
+                        Object value = column.getValue();
+                        if (column.getKey().equals("payload") && value != null) {
+                            generator.writeFieldName("payload");
+                            generator.writeRawValue(value.toString()); // 이미 JSON
+                        } else {
+                            generator.writeStringField(column.getKey(), value == null ? null : value.toString());
+                        }
+                    }
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Outbox archive write failed: " + file, e); // 보관 실패 시 삭제하지 않음
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public OutboxStatsDto stats() {
+        Map<String, Object> size = jdbcTemplate.queryForMap("""
+                SELECT pg_total_relation_size('purchase_outbox') AS total_bytes,
+                       (SELECT reltuples::bigint FROM pg_class WHERE relname = 'purchase_outbox') AS approx_rows,
+                       (SELECT COUNT(*) FROM purchase_outbox WHERE status IN ('READY', 'FAILED')) AS pending,
+                       (SELECT COUNT(*) FROM purchase_outbox WHERE status = 'DEAD') AS dead
+                """);
+        return OutboxStatsDto.builder()
+                .tableBytes(toLong(size.get("total_bytes")))
+                .approxRows(toLong(size.get("approx_rows")))
+                .pendingRows(toLong(size.get("pending")))
+                .deadRows(toLong(size.get("dead")))
+                .purgedTotal(purgedTotal.sum())
+                .archivedTotal(archivedTotal.sum())
+                .lastPurgeRows(lastRunPurged)
+                .lastPurgeMs(lastRunMs)
+                .lastPurgeRatePerSecond(lastPurgeRatePerSecond())
+                .build();
+    }
+
+    private double lastPurgeRatePerSecond() {
+        long ms = lastRunMs;
+        return ms == 0 ? 0.0 : lastRunPurged * 1000.0 / ms;
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+}
@@ -0,0 +1,23 @@
+package com.sampoom.purchase.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxStatsDto {
+    private Long tableBytes;     // 인덱스/TOAST 포함
+    private Long approxRows;     // 통계 기반 추정치
+    private Long pendingRows;    // READY + FAILED
+    private Long deadRows;
+
+    private long purgedTotal;
+    private long archivedTotal;
+    private long lastPurgeRows;
+    private long lastPurgeMs;
+    private double lastPurgeRatePerSecond;
+}
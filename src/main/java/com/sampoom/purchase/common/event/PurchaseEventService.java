@@ -1,10 +1,13 @@
 package com.sampoom.purchase.common.event;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sampoom.purchase.api.purchase.entity.PurchaseOrder;
 import com.sampoom.purchase.api.purchase.entity.PurchaseOrderItem;
+import com.sampoom.purchase.common.event.codec.EventCodec;
+import com.sampoom.purchase.common.event.codec.EventCodecs;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +21,8 @@ import java.util.stream.Collectors;
 public class PurchaseEventService {
 
     private final PurchaseOutboxRepository outboxRepository;
+    private final EventCodecs eventCodecs;
+    private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper;
 
     @Transactional
@@ -40,8 +45,40 @@ public class PurchaseEventService {
         enqueueEvent("PurchaseOrderDeleted", order, true);
     }
 
+    @Transactional
+    public void recordOrdersCreated(List<PurchaseOrder> orders) {
+        enqueueEvents("PurchaseOrderCreated", orders);
+    }
+
+    @Transactional
+    public void recordOrdersReceived(List<PurchaseOrder> orders) {
+        enqueueEvents("PurchaseOrderReceived", orders);
+    }
+
+    @Transactional
+    public void recordOrdersCanceled(List<PurchaseOrder> orders) {
+        enqueueEvents("PurchaseOrderCanceled", orders);
+    }
+
     // 공통 헬퍼 메서드
+    // 여러 주문의 이벤트를 한 번에 저장 (flush 시점에 JDBC 배치 INSERT)
+    private void enqueueEvents(String eventType, List<PurchaseOrder> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        List<PurchaseOutbox> outboxes = orders.stream()
+                .map(order -> toOutbox(eventType, order, false))
+                .collect(Collectors.toList());
+        outboxRepository.saveAll(outboxes);
+        eventPublisher.publishEvent(new OutboxEnqueuedEvent(outboxes.size()));
+    }
+
     private void enqueueEvent(String eventType, PurchaseOrder order, Boolean deleted) {
+        outboxRepository.save(toOutbox(eventType, order, deleted));
+        eventPublisher.publishEvent(new OutboxEnqueuedEvent(1));
+    }
+
+    private PurchaseOutbox toOutbox(String eventType, PurchaseOrder order, Boolean deleted) {
         // 자재 정보를 Material 리스트로 변환
         List<PurchaseEvent.Material> materials = order.getItems() != null ?
             order.getItems().stream()
@@ -66,18 +103,23 @@ public class PurchaseEventService {
                 )
         );
 
+        // 한 번만 직렬화해서 그 바이트를 저장/전송
+        EventCodec codec = eventCodecs.writer();
+        return PurchaseOutbox.ready(
+                order.getId(),
+                eventType,
+                UUID.fromString(evt.eventId()),
+                codec.encode(evt),
+                codec.contentType(),
+                deleted ? null : encodeSnapshot(order) // 삭제는 스냅샷 토픽에 톰스톤
+        );
+    }
+
+    private byte[] encodeSnapshot(PurchaseOrder order) {
         try {
-            JsonNode payload = objectMapper.valueToTree(evt);
-            outboxRepository.save(
-                    PurchaseOutbox.ready(
-                            order.getId(),
-                            eventType,
-                            UUID.fromString(evt.eventId()),
-                            payload
-                    )
-            );
-        } catch (Exception e) {
-            throw new IllegalStateException("Serialize " + eventType + " event failed", e);
+            return objectMapper.writeValueAsBytes(PurchaseOrderSnapshot.from(order));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Order snapshot encode failed id=" + order.getId(), e);
         }
     }
 
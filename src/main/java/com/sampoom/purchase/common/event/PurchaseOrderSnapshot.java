@@ -0,0 +1,77 @@
+package com.sampoom.purchase.common.event;
+
+import com.sampoom.purchase.api.purchase.entity.PurchaseOrder;
+import com.sampoom.purchase.api.purchase.entity.PurchaseOrderItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스냅샷(compacted) 토픽 값: 주문의 최신 전체 상태
+ * - 이벤트 페이로드(변경 알림용 요약)와 달리 소비자가 이 값만으로 주문을 재구성할 수 있어야 함
+ * - 아웃박스 기록 시점(주문 트랜잭션 안)에 주문 행에서 만들어 JSON 으로 저장
+ */
+public record PurchaseOrderSnapshot(
+        Long orderId,
+        String orderCode,
+        String status,
+        LocalDateTime orderAt,
+        LocalDateTime requiredAt,
+        LocalDateTime expectedDeliveryAt,
+        LocalDateTime receivedAt,
+        LocalDateTime canceledAt,
+        Long factoryId,
+        String factoryName,
+        String requesterName,
+        String urgency,
+        BigDecimal expectedAmount,
+        LocalDateTime updatedAt,
+        List<Item> items
+) {
+    public static final String CONTENT_TYPE = "application/json";
+    public static final int SCHEMA_VERSION = 1;
+
+    public record Item(
+            String materialCode,
+            String materialName,
+            String unit,
+            Long quantity,
+            Long standardQuantity,
+            BigDecimal unitPrice,
+            Integer leadTimeDays
+    ) {}
+
+    public static PurchaseOrderSnapshot from(PurchaseOrder order) {
+        List<Item> items = order.getItems() == null ? List.of() : order.getItems().stream()
+                .map(PurchaseOrderSnapshot::toItem)
+                .toList();
+        return new PurchaseOrderSnapshot(
+                order.getId(),
+                order.getCode(),
+                order.getStatus() == null ? null : order.getStatus().name(),
+                order.getOrderAt(),
+                order.getRequiredAt(),
+                order.getExpectedDeliveryAt(),
+                order.getReceivedAt(),
+                order.getCanceledAt(),
+                order.getFactoryId(),
+                order.getFactoryName(),
+                order.getRequesterName(),
+                order.getUrgency() == null ? null : order.getUrgency().name(),
+                order.getExpectedAmount(),
+                order.getUpdatedAt(),
+                items);
+    }
+
+    private static Item toItem(PurchaseOrderItem item) {
+        return new Item(
+                item.getMaterialCode(),
+                item.getMaterialName(),
+                item.getUnit(),
+                item.getQuantity(),
+                item.getStandardQuantity(),
+                item.getUnitPrice(),
+                item.getLeadTimeDays());
+    }
+}
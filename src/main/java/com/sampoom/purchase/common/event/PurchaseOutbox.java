@@ -24,7 +24,8 @@ public class PurchaseOutbox {
 
     @Id
     @Column(name = "purchase_outbox_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchase_outbox_seq_gen")
+    @SequenceGenerator(name = "purchase_outbox_seq_gen", sequenceName = "purchase_outbox_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -36,10 +37,22 @@ public class PurchaseOutbox {
     @Column(name = "event_id", nullable = false, unique = true, columnDefinition = "uuid")
     private UUID eventId;
 
+    // 이전 형식 (jsonb) - payloadBytes 도입 전에 기록된 행만 사용
     @JdbcTypeCode(SqlTypes.JSON)
-    @Column(nullable = false, columnDefinition = "jsonb")
+    @Column(columnDefinition = "jsonb")
     private JsonNode payload;
 
+    // 기록 시 한 번 직렬화한 이벤트 바이트 (Kafka 로 그대로 전송)
+    @Column(name = "payload_bytes")
+    private byte[] payloadBytes;
+
+    @Column(length = 100)
+    private String contentType;
+
+    // 스냅샷 토픽 값 (PurchaseOrderSnapshot JSON), 삭제 이벤트와 도입 전 행은 null
+    @Column(name = "snapshot_bytes")
+    private byte[] snapshotBytes;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private OutboxStatus status;
@@ -60,12 +73,19 @@ public class PurchaseOutbox {
 
     private LocalDateTime nextRetryAt;
 
+    // 발행 선점 (다른 인스턴스와 중복 발행 방지), lease_until 이 지나면 다시 선점 가능
+    @Column(name = "lease_token", columnDefinition = "uuid")
+    private UUID leaseToken;
+
+    private LocalDateTime leaseUntil;
+
     // 상태 전환 메서드
     public void markPublished() {
         this.status = OutboxStatus.PUBLISHED;
         this.publishedAt = LocalDateTime.now();
         this.lastTriedAt = LocalDateTime.now();
         this.nextRetryAt = null;
+        releaseLease();
     }
 
     public void markFailed(String error, LocalDateTime nextRetryAt) {
@@ -74,20 +94,31 @@ public class PurchaseOutbox {
         this.retryCount = (this.retryCount == null ? 1 : this.retryCount + 1);
         this.lastTriedAt = LocalDateTime.now();
         this.nextRetryAt = nextRetryAt;
+        releaseLease();
     }
 
     public void markDead(String error) {
         this.status = OutboxStatus.DEAD;
         this.lastError = error;
         this.lastTriedAt = LocalDateTime.now();
+        releaseLease();
+    }
+
+    // 선점만 해제 (보내지 않은 행)
+    public void releaseLease() {
+        this.leaseToken = null;
+        this.leaseUntil = null;
     }
 
-    public static PurchaseOutbox ready(Long aggregateId, String eventType, UUID eventId, JsonNode payloadJson) {
+    public static PurchaseOutbox ready(Long aggregateId, String eventType, UUID eventId,
+                                       byte[] payloadBytes, String contentType, byte[] snapshotBytes) {
         return PurchaseOutbox.builder()
                 .aggregateId(aggregateId)
                 .eventType(eventType)
                 .eventId(eventId)
-                .payload(payloadJson)
+                .payloadBytes(payloadBytes)
+                .contentType(contentType)
+                .snapshotBytes(snapshotBytes)
                 .occurredAt(LocalDateTime.now())
                 .status(OutboxStatus.READY)
                 .retryCount(0)
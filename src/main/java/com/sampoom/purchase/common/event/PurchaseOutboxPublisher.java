@@ -1,66 +1,361 @@
 package com.sampoom.purchase.common.event;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sampoom.purchase.common.event.codec.EventCodecs;
+import com.sampoom.purchase.common.event.codec.JsonEventCodec;
+import com.sampoom.purchase.common.notify.PgNotificationListener;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
+/**
+ * 아웃박스 발행기 (여러 인스턴스 동시 실행 가능)
+ * - 실행: 전용 스레드. 커밋 직후 로컬 이벤트 / 다른 인스턴스의 pg_notify 로 즉시 깨어남
+ *         깨우지 않으면 적응형 폴링 (밀려 있으면 바로 다음 배치, 한가하면 최대 poll-max-ms 까지 간격을 늘림)
+ * - 선점: SKIP LOCKED + lease 토큰으로 배치를 짧은 트랜잭션에서 가져감 (주문 단위, 한 주문의 이벤트는 한 발행기만 보냄)
+ * - 발행: 트랜잭션/행 잠금 없이 Kafka 로 전송, aggregateId 별 레인에서 병렬 처리 (OutboxLanes)
+ *         주문별 최신 상태는 컴팩션 스냅샷 토픽에도 같은 바이트로 전송 (삭제는 톰스톤)
+ * - 반영: 아직 내 lease 인 행만 잠그고 결과 기록 (lease 가 만료돼 다른 인스턴스가 가져간 행은 건드리지 않음)
+ * - purchase.outbox.delivery=exactly-once 이면 배치 단위 Kafka 트랜잭션으로 전송 (publishTransactional)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class PurchaseOutboxPublisher {
+public class PurchaseOutboxPublisher implements SmartLifecycle {
+
+    private static final String WAKE_CHANNEL = "purchase_outbox";
 
     private final PurchaseOutboxRepository repo;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final EventCodecs eventCodecs;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration leaseDuration;
+    private final PgNotificationListener notifications;
+    private final OutboxLanes lanes;
+    private final OutboxMetrics metrics;
+    private final String snapshotTopic; // null 이면 스냅샷 발행 안 함
+    private final KafkaTemplate<String, byte[]> transactionalKafkaTemplate; // null 이면 at-least-once 모드
+    private final long pollMinMs;
+    private final long pollMaxMs;
+
+    private final Semaphore wakeSignal = new Semaphore(0);
+    private volatile boolean busy;
+    private volatile boolean running;
+    private Thread worker;
 
     private static final String TOPIC_PURCHASE = "purchase-events";
+    private static final String EVENT_ORDER_DELETED = "PurchaseOrderDeleted";
+    private static final String HEADER_CONTENT_TYPE = "content-type";
+    private static final String HEADER_SCHEMA_VERSION = "schema-version";
+    private static final String HEADER_EVENT_TYPE = "event-type";
+    private static final String HEADER_EVENT_ID = "event-id";
     private static final int BATCH = 100;
     private static final int MAX_RETRY = 10;
     private static final long BASE_BACKOFF_MS = 500;     // 0.5s
     private static final long MAX_BACKOFF_MS = 60_000;   // 60s
+    private static final long SEND_TIMEOUT_MS = 10_000;  // 배치 전체 응답 대기
 
+    public PurchaseOutboxPublisher(PurchaseOutboxRepository repo,
+                                   @Qualifier("eventKafkaTemplate") KafkaTemplate<String, byte[]> eventKafkaTemplate,
+                                   @Qualifier("transactionalEventKafkaTemplate")
+                                   ObjectProvider<KafkaTemplate<String, byte[]>> transactionalKafkaTemplate,
+                                   EventCodecs eventCodecs,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   PgNotificationListener notifications,
+                                   OutboxLanes lanes,
+                                   OutboxMetrics metrics,
+                                   @Value("${purchase.kafka.snapshot.enabled:true}") boolean snapshotEnabled,
+                                   @Value("${purchase.kafka.snapshot.topic:purchase-order-snapshots}") String snapshotTopic,
+                                   @Value("${purchase.outbox.lease-seconds:60}") long leaseSeconds,
+                                   @Value("${purchase.outbox.poll-min-ms:50}") long pollMinMs,
+                                   @Value("${purchase.outbox.poll-max-ms:5000}") long pollMaxMs) {
+        this.repo = repo;
+        this.notifications = notifications;
+        this.lanes = lanes;
+        this.metrics = metrics;
+        this.snapshotTopic = snapshotEnabled ? snapshotTopic : null;
+        this.transactionalKafkaTemplate = transactionalKafkaTemplate.getIfAvailable();
+        metrics.setDeliveryMode(this.transactionalKafkaTemplate != null ? "exactly-once" : "at-least-once");
+        this.pollMinMs = pollMinMs;
+        this.pollMaxMs = Math.max(pollMinMs, pollMaxMs);
+        this.kafkaTemplate = eventKafkaTemplate;
+        this.eventCodecs = eventCodecs;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 발행 대기 시간보다 충분히 길어야 정상 발행 중인 배치를 다른 인스턴스가 다시 가져가지 않음
+        this.leaseDuration = Duration.ofSeconds(Math.max(leaseSeconds, SEND_TIMEOUT_MS / 1000 * 2));
+    }
 
-    @Scheduled(fixedDelay = 500)
-    @Transactional
-    public void publishBatch() {
-        List<PurchaseOutbox> batch = repo.pickReadyBatch(BATCH, MAX_RETRY);
-        if (batch.isEmpty()) return;
+    @PostConstruct
+    void subscribe() {
+        notifications.subscribe(WAKE_CHANNEL, payload -> wakeUp(), this::wakeUp);
+    }
 
-        for (PurchaseOutbox o : batch) {
-            try {
-                Object evt;
-                String topic;
+    /**
+     * 아웃박스 기록 트랜잭션 커밋 직후 호출
+     * 이 인스턴스가 이미 배치를 처리 중이면 다른 인스턴스도 깨워 나눠서 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOutboxEnqueued(OutboxEnqueuedEvent event) {
+        if (busy) {
+            notifications.notify(WAKE_CHANNEL, "");
+        }
+        wakeUp();
+    }
 
-                // Purchase 이벤트 처리 - JsonNode를 직접 전송
-                topic = TOPIC_PURCHASE;
-                evt = o.getPayload(); // JsonNode를 직접 사용
+    public void wakeUp() {
+        wakeSignal.release();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "outbox-publisher");
+        worker.setDaemon(true);
+        worker.start();
+    }
 
-                kafkaTemplate.send(topic, String.valueOf(o.getAggregateId()), evt)
-                        .get(5, TimeUnit.SECONDS);
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
 
-                o.markPublished();
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
 
+    private void runLoop() {
+        long idleMs = pollMinMs;
+        while (running) {
+            int claimed;
+            try {
+                busy = true;
+                claimed = publishBatch();
             } catch (Exception e) {
-                int nextRetry = o.getRetryCount() + 1;
+                log.warn("Outbox publish loop error cause={}", e.toString());
+                claimed = 0;
+            } finally {
+                busy = false;
+            }
+
+            if (claimed >= BATCH) {
+                idleMs = pollMinMs; // 밀려 있음 → 바로 다음 배치
+                continue;
+            }
+            idleMs = claimed > 0 ? pollMinMs : Math.min(idleMs * 2, pollMaxMs);
+            try {
+                wakeSignal.tryAcquire(idleMs, TimeUnit.MILLISECONDS);
+                wakeSignal.drainPermits(); // 대기 중 쌓인 깨우기 요청은 한 번의 배치로 처리
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return 선점한 행 수
+     */
+    public int publishBatch() {
+        UUID leaseToken = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        if (repo.claimBatch(leaseToken, now, now.plus(leaseDuration), BATCH, MAX_RETRY) == 0) return 0;
+        List<PurchaseOutbox> batch = repo.findByLeaseTokenOrderByOccurredAtAsc(leaseToken);
+        if (batch.isEmpty()) return 0;
+        if (transactionalKafkaTemplate != null) {
+            publishTransactional(batch, leaseToken);
+            return batch.size();
+        }
+
+        // 1) 레인별 병렬 전송 (같은 주문은 순서대로), 콜백은 결과만 기록하고 엔티티는 건드리지 않음
+        Map<Long, OutboxLanes.Outcome> outcomes;
+        try {
+            outcomes = lanes.dispatch(batch, o -> send(kafkaTemplate, o), SEND_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcomes = Map.of();
+        }
 
-                if (nextRetry >= MAX_RETRY) {
-                    o.markDead(shorten(e.getMessage(), 2000));
-                    log.error("Outbox DEAD id={} retry={} cause={}", o.getId(), o.getRetryCount(), e.toString());
+        // 2) 결과 반영 (시간 안에 끝나지 않은 행은 실패로 보고 재시도, at-least-once)
+        Map<Long, OutboxLanes.Outcome> results = outcomes;
+        Set<Long> ids = batch.stream().map(PurchaseOutbox::getId).collect(Collectors.toSet());
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PurchaseOutbox> leased = repo.lockLeased(ids, leaseToken);
+            if (leased.size() < ids.size()) {
+                log.warn("Outbox lease expired before completion token={} lost={}",
+                        leaseToken, ids.size() - leased.size());
+            }
+            for (PurchaseOutbox o : leased) {
+                OutboxLanes.Outcome outcome = results.get(o.getId());
+                if (outcome == null) {
+                    handleFailure(o, new TimeoutException("Kafka send not acknowledged within " + SEND_TIMEOUT_MS + "ms"));
                     continue;
                 }
-
-                long backoffMs = computeBackoffMs(nextRetry);
-                LocalDateTime next = LocalDateTime.now().plusNanos(backoffMs * 1_000_000);
-                o.markFailed(shorten(e.getMessage(), 2000), next);
-                log.warn("Outbox publish failed id={} retry={} cause={}", o.getId(), o.getRetryCount(), e.toString());
+                switch (outcome.result()) {
+                    case PUBLISHED -> {
+                        o.markPublished();
+                        metrics.recordPublished(o, o.getPublishedAt());
+                    }
+                    case FAILED -> handleFailure(o, outcome.cause());
+                    case SKIPPED -> o.releaseLease(); // 앞선 이벤트가 재시도된 뒤 다시 선점됨
+                }
             }
+        });
+        return batch.size();
+    }
+
+    /**
+     * exactly-once 모드: 배치 전체를 하나의 Kafka 트랜잭션으로 전송
+     * - DB 트랜잭션 안에서 행을 잠그고 PUBLISHED 로 반영(flush)한 뒤 Kafka 커밋 → DB 커밋 순서
+     *   Kafka 커밋이 실패하면 DB 도 롤백되어 다시 발행, 중단된 Kafka 트랜잭션은 read_committed 소비자에게 보이지 않음
+     *   Kafka 커밋 후 DB 커밋 자체가 실패하는 경우만 중복 가능 (소비자는 event-id 로 판단)
+     * - 하나의 프로듀서가 순서대로 보내므로 레인 없이도 주문별 순서 유지, 대신 전송 중 행 잠금을 유지함
+     */
+    private void publishTransactional(List<PurchaseOutbox> batch, UUID leaseToken) {
+        Set<Long> ids = batch.stream().map(PurchaseOutbox::getId).collect(Collectors.toSet());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 선점 조회로 읽은 batch 는 이미 분리된(detached) 엔티티라 상태 변경이 반영되지 않음
+                // → 이 트랜잭션에서 잠근 관리 엔티티에 발행 처리
+                List<PurchaseOutbox> rows = repo.lockLeased(ids, leaseToken);
+                if (rows.isEmpty()) {
+                    return;
+                }
+                transactionalKafkaTemplate.executeInTransaction(kafka -> {
+                    List<CompletableFuture<?>> sends = new ArrayList<>(rows.size());
+                    for (PurchaseOutbox o : rows) {
+                        try {
+                            sends.add(send(kafka, o));
+                        } catch (JsonProcessingException e) {
+                            throw new IllegalStateException("Outbox payload encode failed id=" + o.getId(), e);
+                        }
+                    }
+                    awaitAll(sends);
+                    rows.forEach(PurchaseOutbox::markPublished);
+                    // DB 오류는 Kafka 커밋 전에 드러나게 함
+                    // (이후 DB 커밋만 실패하면 행이 재시도되어 중복 전송, 소비자는 event-id 로 중복 제거)
+                    repo.flush();
+                    return null;
+                });
+                rows.forEach(o -> metrics.recordPublished(o, o.getPublishedAt()));
+            });
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            transactionTemplate.executeWithoutResult(status ->
+                    repo.lockLeased(ids, leaseToken).forEach(o -> handleFailure(o, cause)));
+        }
+    }
+
+    private static void awaitAll(List<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(new CompletableFuture[0])).get(SEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Kafka acks", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Kafka send failed: " + e.getCause(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Kafka send not acknowledged within " + SEND_TIMEOUT_MS + "ms", e);
+        }
+    }
+
+    // 이벤트와 스냅샷을 함께 보내고 둘 다 ack 되어야 발행 완료 (레인이 다음 이벤트를 그 뒤에 보냄)
+    private CompletableFuture<?> send(KafkaOperations<String, byte[]> kafka, PurchaseOutbox o)
+            throws JsonProcessingException {
+        long start = System.nanoTime();
+        byte[] value;
+        String contentType;
+        if (o.getPayloadBytes() != null) {
+            value = o.getPayloadBytes();
+            contentType = o.getContentType();
+        } else {
+            value = objectMapper.writeValueAsBytes(o.getPayload()); // payload_bytes 도입 전 행
+            contentType = JsonEventCodec.CONTENT_TYPE;
         }
+        CompletableFuture<?> event = kafka.send(toRecord(TOPIC_PURCHASE, o, value, contentType))
+                .whenComplete((result, ex) -> metrics.recordSend(System.nanoTime() - start));
+        if (snapshotTopic == null) {
+            return event;
+        }
+        // 기록 시 주문 행에서 만든 전체 상태(PurchaseOrderSnapshot), 삭제는 톰스톤
+        // 스냅샷 컬럼 도입 전 행은 전체 상태를 알 수 없으므로 스냅샷을 보내지 않음
+        if (!EVENT_ORDER_DELETED.equals(o.getEventType()) && o.getSnapshotBytes() == null) {
+            return event;
+        }
+        ProducerRecord<String, byte[]> snapshotRecord = toRecord(snapshotTopic, o, o.getSnapshotBytes(),
+                PurchaseOrderSnapshot.CONTENT_TYPE, PurchaseOrderSnapshot.SCHEMA_VERSION);
+        CompletableFuture<?> snapshotSent = kafka.send(snapshotRecord);
+        return CompletableFuture.allOf(event, snapshotSent);
+    }
+
+    // 저장된 바이트를 그대로 전송, 형식/버전은 헤더로 전달 (톰스톤은 value 가 null)
+    private ProducerRecord<String, byte[]> toRecord(String topic, PurchaseOutbox o, byte[] value, String contentType) {
+        int schemaVersion = value == null ? 0 : eventCodecs.forContentType(contentType).schemaVersion();
+        return toRecord(topic, o, value, contentType, schemaVersion);
+    }
+
+    private ProducerRecord<String, byte[]> toRecord(String topic, PurchaseOutbox o, byte[] value,
+                                                    String contentType, int schemaVersion) {
+        ProducerRecord<String, byte[]> record =
+                new ProducerRecord<>(topic, String.valueOf(o.getAggregateId()), value);
+        if (value != null) {
+            record.headers()
+                    .add(HEADER_CONTENT_TYPE, contentType.getBytes(StandardCharsets.UTF_8))
+                    .add(HEADER_SCHEMA_VERSION, String.valueOf(schemaVersion).getBytes(StandardCharsets.UTF_8));
+        }
+        record.headers()
+                .add(HEADER_EVENT_TYPE, o.getEventType().getBytes(StandardCharsets.UTF_8))
+                .add(HEADER_EVENT_ID, o.getEventId().toString().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private void handleFailure(PurchaseOutbox o, Throwable e) {
+        int nextRetry = o.getRetryCount() + 1;
+
+        if (nextRetry >= MAX_RETRY) {
+            o.markDead(shorten(e.getMessage(), 2000));
+            metrics.recordDead();
+            log.error("Outbox DEAD id={} retry={} cause={}", o.getId(), o.getRetryCount(), e.toString());
+            return;
+        }
+
+        long backoffMs = computeBackoffMs(nextRetry);
+        LocalDateTime next = LocalDateTime.now().plusNanos(backoffMs * 1_000_000);
+        o.markFailed(shorten(e.getMessage(), 2000), next);
+        metrics.recordFailed();
+        log.warn("Outbox publish failed id={} retry={} cause={}", o.getId(), o.getRetryCount(), e.toString());
     }
 
     private String shorten(String s, int max) {
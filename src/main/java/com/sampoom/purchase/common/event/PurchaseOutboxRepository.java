@@ -1,19 +1,68 @@
 package com.sampoom.purchase.common.event;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public interface PurchaseOutboxRepository extends JpaRepository<PurchaseOutbox, Long> {
 
-    @Query("""
-            SELECT o FROM PurchaseOutbox o 
-            WHERE o.status = 'READY' 
-               OR (o.status = 'FAILED' AND o.nextRetryAt <= CURRENT_TIMESTAMP AND o.retryCount < :maxRetry)
-            ORDER BY o.occurredAt ASC
-            LIMIT :batchSize
-            """)
-    List<PurchaseOutbox> pickReadyBatch(@Param("batchSize") int batchSize, @Param("maxRetry") int maxRetry);
+    /**
+     * 발행 대상 배치 선점 (주문 단위)
+     * - 주문별 가장 앞선 미발행 행(head)만 FOR UPDATE SKIP LOCKED 로 잠그고, 같은 주문의 뒤 미발행 행을 함께 선점
+     *   → 한 주문의 이벤트는 항상 한 발행기가 순서대로 보냄
+     * - head 를 다른 인스턴스가 잠그고 있으면(선점 트랜잭션 진행 중) 그 주문 전체를 건너뜀
+     * - head 잠금 후 최신 행 기준으로 조건을 다시 확인하므로, 이미 커밋된 다른 선점(lease_until)도 제외됨
+     *   (문장 스냅샷만 보는 NOT EXISTS 확인으로는 진행 중인 선점을 볼 수 없음)
+     * - head 가 재시도 대기(FAILED) 중이면 그 주문은 재시도 시각까지 선점하지 않음
+     * - lease_until 이 지난 선점(발행 중 종료된 인스턴스)은 다시 선점 가능
+     * @return 선점한 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH heads AS (
+                SELECT h.purchase_outbox_id, h.aggregate_id
+                  FROM purchase_outbox h
+                 WHERE h.status IN ('READY', 'FAILED')
+                   AND NOT EXISTS (
+                       SELECT 1 FROM purchase_outbox e
+                        WHERE e.aggregate_id = h.aggregate_id
+                          AND e.status IN ('READY', 'FAILED')
+                          AND (e.occurred_at, e.purchase_outbox_id) < (h.occurred_at, h.purchase_outbox_id))
+                   AND (h.status = 'READY' OR (h.next_retry_at <= :now AND h.retry_count < :maxRetry))
+                   AND (h.lease_until IS NULL OR h.lease_until < :now)
+                 ORDER BY h.occurred_at
+                 LIMIT :batchSize
+                   FOR UPDATE SKIP LOCKED)
+            UPDATE purchase_outbox o
+               SET lease_token = :token, lease_until = :leaseUntil
+              FROM heads
+             WHERE o.aggregate_id = heads.aggregate_id
+               AND o.status IN ('READY', 'FAILED')
+               AND (o.lease_until IS NULL OR o.lease_until < :now)
+            """, nativeQuery = true)
+    int claimBatch(@Param("token") UUID token,
+                   @Param("now") LocalDateTime now,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("batchSize") int batchSize,
+                   @Param("maxRetry") int maxRetry);
+
+    List<PurchaseOutbox> findByLeaseTokenOrderByOccurredAtAsc(UUID leaseToken);
+
+    /**
+     * 발행 결과 반영 전 잠금, 선점이 만료되어 다른 인스턴스가 가져간 행은 제외됨
+     * 기록 순서로 반환 (exactly-once 모드는 이 순서대로 전송)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM PurchaseOutbox o WHERE o.id IN :ids AND o.leaseToken = :token ORDER BY o.occurredAt, o.id")
+    List<PurchaseOutbox> lockLeased(@Param("ids") Collection<Long> ids, @Param("token") UUID token);
 }
@@ -0,0 +1,154 @@
+package com.sampoom.purchase.common.event.codec;
+
+import com.sampoom.purchase.common.event.PurchaseEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 필드 이름 없이 순서대로 기록하는 바이너리 형식
+ * - 첫 바이트: 스키마 버전 / 문자열: 길이(varint, 0 = null) + UTF-8 / 숫자: null 여부 바이트 + 값
+ * - 필드를 추가할 때는 SCHEMA_VERSION 을 올리고 decode 에서 이전 버전도 읽을 수 있게 유지
+ */
+public class CompactEventCodec implements EventCodec {
+
+    public static final String CONTENT_TYPE = "application/x-purchase-event";
+    private static final int SCHEMA_VERSION = 1;
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public byte[] encode(PurchaseEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(SCHEMA_VERSION);
+            writeString(out, event.eventId());
+            writeString(out, event.eventType());
+            writeLong(out, event.version());
+            writeString(out, event.occurredAt());
+
+            PurchaseEvent.Payload p = event.payload();
+            writeLong(out, p.orderId());
+            writeString(out, p.orderCode());
+            writeLong(out, p.factoryId());
+            writeString(out, p.factoryName());
+            writeString(out, p.status());
+            writeString(out, p.receivedAt());
+            out.writeByte(p.deleted() == null ? 0 : (p.deleted() ? 2 : 1));
+
+            List<PurchaseEvent.Material> materials = p.materials() == null ? List.of() : p.materials();
+            writeVarInt(out, materials.size());
+            for (PurchaseEvent.Material m : materials) {
+                writeString(out, m.materialCode());
+                writeString(out, m.materialName());
+                writeLong(out, m.quantity() == null ? null : m.quantity().longValue());
+                writeString(out, m.unit());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Serialize " + event.eventType() + " event failed", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public PurchaseEvent decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int version = in.readUnsignedByte();
+            if (version != SCHEMA_VERSION) {
+                throw new IllegalStateException("Unsupported compact event schema version: " + version);
+            }
+            String eventId = readString(in);
+            String eventType = readString(in);
+            Long eventVersion = readLong(in);
+            String occurredAt = readString(in);
+
+            Long orderId = readLong(in);
+            String orderCode = readString(in);
+            Long factoryId = readLong(in);
+            String factoryName = readString(in);
+            String status = readString(in);
+            String receivedAt = readString(in);
+            int deletedFlag = in.readUnsignedByte();
+            Boolean deleted = deletedFlag == 0 ? null : deletedFlag == 2;
+
+            int count = readVarInt(in);
+            List<PurchaseEvent.Material> materials = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String code = readString(in);
+                String name = readString(in);
+                Long quantity = readLong(in);
+                String unit = readString(in);
+                materials.add(new PurchaseEvent.Material(code, name, quantity == null ? null : quantity.intValue(), unit));
+            }
+            return new PurchaseEvent(eventId, eventType, eventVersion, occurredAt, new PurchaseEvent.Payload(
+                    orderId, orderCode, factoryId, factoryName, status, receivedAt, deleted, materials));
+        } catch (IOException e) {
+            throw new IllegalStateException("Deserialize purchase event failed", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, utf8.length + 1);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length - 1];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,19 @@
+package com.sampoom.purchase.common.event.codec;
+
+import com.sampoom.purchase.common.event.PurchaseEvent;
+
+/**
+ * 이벤트 직렬화 형식
+ * - 아웃박스 기록 시 한 번만 직렬화하고, 그 바이트를 그대로 Kafka 로 전송
+ * - contentType 은 아웃박스 행과 Kafka 헤더에 함께 기록되어 읽는 쪽이 형식을 고를 수 있음
+ */
+public interface EventCodec {
+
+    String contentType();
+
+    int schemaVersion();
+
+    byte[] encode(PurchaseEvent event);
+
+    PurchaseEvent decode(byte[] bytes);
+}
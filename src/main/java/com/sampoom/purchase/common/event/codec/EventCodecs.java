@@ -0,0 +1,44 @@
+package com.sampoom.purchase.common.event.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 이벤트 형식 선택 (purchase.event.format: json | compact)
+ * - 새로 기록하는 이벤트는 설정된 형식으로 직렬화
+ * - 발행 시에는 행에 기록된 contentType 으로 코덱을 찾음 (형식 변경 중에도 기존 행 발행 가능)
+ */
+@Component
+public class EventCodecs {
+
+    private final Map<String, EventCodec> byContentType;
+    private final EventCodec writer;
+
+    public EventCodecs(ObjectMapper objectMapper,
+                       @Value("${purchase.event.format:json}") String format) {
+        EventCodec json = new JsonEventCodec(objectMapper);
+        EventCodec compact = new CompactEventCodec();
+        this.byContentType = Map.of(json.contentType(), json, compact.contentType(), compact);
+        this.writer = switch (format.trim().toLowerCase(Locale.ROOT)) {
+            case "json" -> json;
+            case "compact" -> compact;
+            default -> throw new IllegalArgumentException("Unknown purchase.event.format: " + format);
+        };
+    }
+
+    public EventCodec writer() {
+        return writer;
+    }
+
+    public EventCodec forContentType(String contentType) {
+        EventCodec codec = byContentType.get(contentType);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown event content type: " + contentType);
+        }
+        return codec;
+    }
+}
@@ -0,0 +1,46 @@
+package com.sampoom.purchase.common.event.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sampoom.purchase.common.event.PurchaseEvent;
+
+/**
+ * JSON 형식 (기존 소비자와 호환되는 기본값)
+ */
+public class JsonEventCodec implements EventCodec {
+
+    public static final String CONTENT_TYPE = "application/json";
+
+    private final ObjectMapper objectMapper;
+
+    public JsonEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public byte[] encode(PurchaseEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (Exception e) {
+            throw new IllegalStateException("Serialize " + event.eventType() + " event failed", e);
+        }
+    }
+
+    @Override
+    public PurchaseEvent decode(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, PurchaseEvent.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("Deserialize purchase event failed", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.sampoom.purchase.common.idempotency;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key 처리 기록 (재시작/다중 인스턴스 대비)
+ */
+@Entity
+@Table(
+        name = "purchase_idempotency_key",
+        indexes = {
+                @Index(name = "ix_purchase_idempotency_key_expires_at", columnList = "expires_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 300)
+    private String idempotencyKey; // scope:key
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    @Column(name = "request_hash", length = 64)
+    private String requestHash; // 요청 본문 SHA-256 (같은 키의 다른 요청 거부)
+
+    @Column(columnDefinition = "text")
+    private String response; // 완료된 응답 본문(JSON)
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 처리 중(IN_PROGRESS) 선점: 실행 중인 쪽이 주기적으로 연장, 만료된 경우에만 다른 요청이 이어받음
+    @Column(name = "lease_token", columnDefinition = "uuid")
+    private UUID leaseToken;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+}
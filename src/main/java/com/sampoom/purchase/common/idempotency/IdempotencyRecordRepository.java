@@ -0,0 +1,82 @@
+package com.sampoom.purchase.common.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * 키 선점. 새 키이거나 만료된 키, 처리 중 선점(lease)이 만료된 키만 선점 가능
+     * (lease 도입 전 기록은 생성 시각 기준)
+     * @return 선점 성공 시 1
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO purchase_idempotency_key (idempotency_key, status, request_hash, response, created_at, expires_at,
+                                                  lease_token, lease_until)
+            VALUES (:key, 'IN_PROGRESS', :requestHash, NULL, :now, :expiresAt, :token, :leaseUntil)
+            ON CONFLICT (idempotency_key) DO UPDATE
+               SET status = 'IN_PROGRESS', request_hash = :requestHash, response = NULL,
+                   created_at = :now, expires_at = :expiresAt, lease_token = :token, lease_until = :leaseUntil
+             WHERE purchase_idempotency_key.expires_at < :now
+                OR (purchase_idempotency_key.status = 'IN_PROGRESS'
+                    AND (purchase_idempotency_key.lease_until < :now
+                         OR (purchase_idempotency_key.lease_until IS NULL
+                             AND purchase_idempotency_key.created_at < :staleBefore)))
+            """, nativeQuery = true)
+    int claim(@Param("key") String key,
+              @Param("requestHash") String requestHash,
+              @Param("token") UUID token,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("expiresAt") LocalDateTime expiresAt,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 실행 중인 쪽의 선점 연장
+     * @return 0 이면 선점이 만료되어 다른 요청이 이어받음
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE purchase_idempotency_key
+               SET lease_until = :leaseUntil
+             WHERE idempotency_key = :key AND status = 'IN_PROGRESS' AND lease_token = :token
+            """, nativeQuery = true)
+    int renewLease(@Param("key") String key, @Param("token") UUID token, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE purchase_idempotency_key
+               SET status = 'COMPLETED', response = :response, lease_token = NULL, lease_until = NULL
+             WHERE idempotency_key = :key AND lease_token = :token
+            """, nativeQuery = true)
+    int complete(@Param("key") String key, @Param("token") UUID token, @Param("response") String response);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM purchase_idempotency_key
+             WHERE idempotency_key = :key AND status = 'IN_PROGRESS' AND lease_token = :token
+            """, nativeQuery = true)
+    int release(@Param("key") String key, @Param("token") UUID token);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM purchase_idempotency_key
+             WHERE idempotency_key IN (
+                   SELECT idempotency_key FROM purchase_idempotency_key
+                    WHERE expires_at < :now
+                    LIMIT :limit)
+            """, nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
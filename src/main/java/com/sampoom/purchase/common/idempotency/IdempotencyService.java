@@ -0,0 +1,221 @@
+package com.sampoom.purchase.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sampoom.purchase.common.cache.BoundedTtlCache;
+import com.sampoom.purchase.common.exception.BadRequestException;
+import com.sampoom.purchase.common.exception.ConflictException;
+import com.sampoom.purchase.common.response.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 중복 요청 방지
+ * - 1차: 메모리 캐시에 완료 응답 보관 → 재시도는 DB 조회 없이 응답
+ * - 2차: purchase_idempotency_key 테이블 → 재시작/다른 인스턴스로 들어온 재시도 처리
+ * - 같은 키로 동시에 들어온 요청은 하나만 실행하고 나머지는 그 결과를 공유
+ * - 요청 본문 해시를 함께 저장해 같은 키로 다른 본문이 오면 재생하지 않고 409 로 거부
+ * - 처리 중 선점은 lease 로 관리: 오래 걸리는 요청(대량 등록)은 진행 중에 renewLease 로 연장하고,
+ *   lease 가 만료된 경우에만 다른 인스턴스가 이어받음 (실행 중인 요청을 다시 실행하지 않음)
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 200;
+    private static final int CLEANUP_BATCH = 1000;
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration leaseDuration;
+    private final BoundedTtlCache<String, Stored> responseCache;
+    private final ConcurrentHashMap<String, Stored> inFlight = new ConcurrentHashMap<>();
+    private final ThreadLocal<Lease> currentLease = new ThreadLocal<>(); // 이 스레드가 실행 중인 요청의 선점
+
+    private static final class Lease {
+        private final String key;
+        private final UUID token;
+        private LocalDateTime renewedAt;
+
+        private Lease(String key, UUID token, LocalDateTime renewedAt) {
+            this.key = key;
+            this.token = token;
+            this.renewedAt = renewedAt;
+        }
+    }
+
+    // 요청 해시 + 완료 응답(메모리 캐시) 또는 실행 중인 결과(inFlight)
+    private record Stored(String requestHash, Object response) {
+    }
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              ObjectMapper objectMapper,
+                              @Value("${purchase.idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${purchase.idempotency.lease-seconds:${purchase.idempotency.in-progress-timeout-seconds:60}}")
+                              long leaseSeconds,
+                              @Value("${purchase.idempotency.cache-size:10000}") int cacheSize) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+        this.responseCache = new BoundedTtlCache<>(cacheSize, ttl.toMillis());
+    }
+
+    /**
+     * @param scope          엔드포인트 구분자 (같은 키라도 엔드포인트가 다르면 별개)
+     * @param idempotencyKey 클라이언트가 보낸 키, 없으면 그대로 실행
+     * @param request        요청 본문 (같은 키의 재시도인지 확인하는 해시 계산용)
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException(ErrorStatus.INVALID_IDEMPOTENCY_KEY);
+        }
+        String key = scope + ":" + idempotencyKey;
+        String requestHash = hash(request);
+
+        Stored cached = responseCache.get(key);
+        if (cached != null) {
+            checkSameRequest(cached.requestHash(), requestHash);
+            return responseType.cast(cached.response());
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        Stored mineEntry = new Stored(requestHash, mine);
+        Stored running = inFlight.putIfAbsent(key, mineEntry);
+        if (running != null) {
+            checkSameRequest(running.requestHash(), requestHash);
+            return responseType.cast(await((CompletableFuture<?>) running.response()));
+        }
+        try {
+            T result = executeOnce(key, requestHash, responseType, action);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mineEntry);
+        }
+    }
+
+    private <T> T executeOnce(String key, String requestHash, Class<T> responseType, Supplier<T> action) {
+        LocalDateTime now = LocalDateTime.now();
+        UUID token = UUID.randomUUID();
+        if (repository.claim(key, requestHash, token, now, now.plus(leaseDuration), now.plus(ttl),
+                now.minus(leaseDuration)) == 0) {
+            // 이미 처리되었거나 다른 인스턴스에서 처리 중
+            IdempotencyRecord record = repository.findById(key).orElse(null);
+            if (record != null) {
+                checkSameRequest(record.getRequestHash(), requestHash);
+            }
+            if (record != null && record.getStatus() == IdempotencyStatus.COMPLETED && record.getResponse() != null) {
+                T replay = deserialize(record.getResponse(), responseType);
+                responseCache.put(key, new Stored(requestHash, replay));
+                return replay;
+            }
+            throw new ConflictException(ErrorStatus.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+
+        T result;
+        currentLease.set(new Lease(key, token, now));
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            repository.release(key, token); // 실패한 요청은 같은 키로 재시도 가능해야 함
+            throw e;
+        } finally {
+            currentLease.remove();
+        }
+
+        try {
+            if (repository.complete(key, token, objectMapper.writeValueAsString(result)) == 0) {
+                log.warn("Idempotency 선점이 만료되어 다른 요청이 이어받음 key={}", key);
+            }
+        } catch (Exception e) {
+            // 주문은 이미 커밋됨 → 응답은 그대로 반환, 메모리 캐시로만 중복 방지
+            log.warn("Idempotency 응답 저장 실패 key={} cause={}", key, e.toString());
+        }
+        responseCache.put(key, new Stored(requestHash, result));
+        return result;
+    }
+
+    /**
+     * 현재 스레드가 실행 중인 요청의 선점 연장 (오래 걸리는 작업이 단계마다 호출)
+     * lease 의 1/3 이 지나기 전에는 DB 를 건드리지 않음, Idempotency-Key 없이 실행 중이면 아무것도 하지 않음
+     * @throws IllegalStateException 선점이 이미 만료되어 다른 요청이 이어받은 경우 (중복 실행을 더 늘리지 않도록 중단)
+     */
+    public void renewLease() {
+        Lease lease = currentLease.get();
+        if (lease == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(lease.renewedAt.plus(leaseDuration.dividedBy(3)))) {
+            return;
+        }
+        if (repository.renewLease(lease.key, lease.token, now.plus(leaseDuration)) == 0) {
+            throw new IllegalStateException("Idempotency lease lost key=" + lease.key);
+        }
+        lease.renewedAt = now;
+    }
+
+    // 해시가 없는 기록(컬럼 추가 이전)은 비교하지 않음
+    private static void checkSameRequest(String storedHash, String requestHash) {
+        if (storedHash != null && !Objects.equals(storedHash, requestHash)) {
+            throw new ConflictException(ErrorStatus.IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] body = request == null ? new byte[0] : objectMapper.writeValueAsBytes(request);
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (Exception e) {
+            throw new IllegalStateException("Hash idempotent request failed", e);
+        }
+    }
+
+    private Object await(CompletableFuture<?> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> T deserialize(String json, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(json, responseType);
+        } catch (Exception e) {
+            throw new IllegalStateException("Deserialize idempotent response failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${purchase.idempotency.cleanup-interval-ms:600000}")
+    public void purgeExpired() {
+        int deleted;
+        do {
+            deleted = repository.deleteExpired(LocalDateTime.now(), CLEANUP_BATCH);
+        } while (deleted == CLEANUP_BATCH);
+    }
+}
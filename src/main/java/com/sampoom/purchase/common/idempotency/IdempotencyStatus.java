@@ -0,0 +1,6 @@
+package com.sampoom.purchase.common.idempotency;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -0,0 +1,22 @@
+package com.sampoom.purchase.common.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HistogramSnapshotDto {
+    private long count;
+    private double meanMs;
+    private long maxMs;
+    private long p50Ms;              // 구간 상한 근사
+    private long p95Ms;
+    private long p99Ms;
+    private Map<String, Long> buckets; // 구간 상한(ms) → 건수
+}
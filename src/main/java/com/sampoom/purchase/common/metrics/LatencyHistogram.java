@@ -0,0 +1,79 @@
+package com.sampoom.purchase.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 구간 지연 히스토그램 (ms)
+ * - 기록은 구간 카운터 증가 + 합계/최대값 갱신뿐이라 잠금 없이 여러 스레드에서 호출 가능
+ * - 백분위는 구간 상한으로 근사
+ */
+public class LatencyHistogram {
+
+    private static final long[] BOUNDS_MS = {
+            1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000, 30_000, 60_000, 300_000
+    };
+
+    private final AtomicLongArray counts = new AtomicLongArray(BOUNDS_MS.length + 1); // 마지막 칸은 +Inf
+    private final LongAdder sumMs = new LongAdder();
+    private final AtomicLong maxMs = new AtomicLong();
+
+    public void record(long ms) {
+        long value = Math.max(0, ms);
+        counts.incrementAndGet(bucketOf(value));
+        sumMs.add(value);
+        if (value > maxMs.get()) {
+            maxMs.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    public HistogramSnapshotDto snapshot() {
+        long[] copy = new long[counts.length()];
+        long total = 0;
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < copy.length; i++) {
+            buckets.put(i < BOUNDS_MS.length ? String.valueOf(BOUNDS_MS[i]) : "+Inf", copy[i]);
+        }
+        long max = maxMs.get();
+        return HistogramSnapshotDto.builder()
+                .count(total)
+                .meanMs(total == 0 ? 0.0 : (double) sumMs.sum() / total)
+                .maxMs(max)
+                .p50Ms(percentile(copy, total, 0.50, max))
+                .p95Ms(percentile(copy, total, 0.95, max))
+                .p99Ms(percentile(copy, total, 0.99, max))
+                .buckets(buckets)
+                .build();
+    }
+
+    private static int bucketOf(long ms) {
+        for (int i = 0; i < BOUNDS_MS.length; i++) {
+            if (ms <= BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return BOUNDS_MS.length;
+    }
+
+    private static long percentile(long[] counts, long total, double q, long max) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * q);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i < BOUNDS_MS.length ? Math.min(BOUNDS_MS[i], max) : max;
+            }
+        }
+        return max;
+    }
+}
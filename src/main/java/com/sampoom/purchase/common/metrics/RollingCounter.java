@@ -0,0 +1,34 @@
+package com.sampoom.purchase.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 60초 카운터 (초 단위 칸, 오래된 칸은 쓸 때 초기화)
+ */
+public class RollingCounter {
+
+    private static final int SIZE = 60;
+    private final AtomicLongArray counts = new AtomicLongArray(SIZE);
+    private final AtomicLongArray seconds = new AtomicLongArray(SIZE);
+
+    public void increment() {
+        long now = System.currentTimeMillis() / 1000;
+        int slot = (int) (now % SIZE);
+        long slotSecond = seconds.get(slot);
+        if (slotSecond != now && seconds.compareAndSet(slot, slotSecond, now)) {
+            counts.set(slot, 0);
+        }
+        counts.incrementAndGet(slot);
+    }
+
+    public long lastMinute() {
+        long now = System.currentTimeMillis() / 1000;
+        long total = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (now - seconds.get(i) < SIZE) {
+                total += counts.get(i);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,173 @@
+package com.sampoom.purchase.common.notify;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 인스턴스 간 알림
+ * - 커넥션 풀과 별도의 전용 커넥션 하나로 구독 채널을 LISTEN
+ * - 연결이 끊기면 재연결 후 onResync 호출 (끊긴 동안의 알림은 유실되므로 구독자가 상태를 다시 맞춤)
+ * - 발행은 풀 커넥션으로 pg_notify 호출 (트랜잭션 안에서 호출하면 커밋 시점에 전달됨)
+ */
+@Slf4j
+@Component
+public class PgNotificationListener implements SmartLifecycle {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int pollTimeoutMs;
+    private final long reconnectDelayMs;
+
+    private final Map<String, List<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private volatile boolean channelsChanged;
+    private volatile boolean running;
+    private Thread worker;
+
+    public PgNotificationListener(DataSourceProperties dataSourceProperties,
+                                  JdbcTemplate jdbcTemplate,
+                                  @Value("${purchase.notify.enabled:true}") boolean enabled,
+                                  @Value("${purchase.notify.poll-timeout-ms:1000}") int pollTimeoutMs,
+                                  @Value("${purchase.notify.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    /**
+     * @param onPayload 알림 수신 시 호출 (리스너 스레드에서 실행되므로 가볍게 처리)
+     * @param onResync  재연결 직후 호출, 놓친 알림을 보정
+     */
+    public void subscribe(String channel, Consumer<String> onPayload, Runnable onResync) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel: " + channel);
+        }
+        subscriptions.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>())
+                .add(new Subscription(onPayload, onResync));
+        channelsChanged = true;
+    }
+
+    public void notify(String channel, String payload) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+        } catch (Exception e) {
+            // 다른 인스턴스는 TTL 만료로 결국 맞춰지므로 요청 처리는 계속 진행
+            log.warn("pg_notify 실패 channel={} cause={}", channel, e.toString());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::listenLoop, "pg-notification-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        boolean reconnect = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                listenAll(connection);
+                if (reconnect) {
+                    subscriptions.values().forEach(list -> list.forEach(s -> s.onResync().run()));
+                }
+                reconnect = true;
+
+                while (running) {
+                    if (channelsChanged) {
+                        listenAll(connection);
+                    }
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getName(), notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("LISTEN 연결 끊김, {}ms 후 재연결 cause={}", reconnectDelayMs, e.toString());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listenAll(Connection connection) throws SQLException {
+        channelsChanged = false;
+        try (Statement statement = connection.createStatement()) {
+            for (String channel : subscriptions.keySet()) {
+                statement.execute("LISTEN " + channel); // 채널명은 subscribe 에서 검증됨
+            }
+        }
+    }
+
+    private void dispatch(String channel, String payload) {
+        List<Subscription> list = subscriptions.get(channel);
+        if (list == null) {
+            return;
+        }
+        for (Subscription subscription : list) {
+            try {
+                subscription.onPayload().accept(payload);
+            } catch (Exception e) {
+                log.warn("알림 처리 실패 channel={} payload={} cause={}", channel, payload, e.toString());
+            }
+        }
+    }
+
+    private record Subscription(Consumer<String> onPayload, Runnable onResync) {
+    }
+}
@@ -23,6 +23,9 @@ public enum ErrorStatus {
     INVALID_QUANTITY(HttpStatus.BAD_REQUEST, "유효하지 않은 수량입니다.",40011),
     INSUFFICIENT_MATERIAL_QUANTITY(HttpStatus.BAD_REQUEST, "자재 수량이 부족합니다.",40012),
     NO_AVAILABLE_FACTORY(HttpStatus.BAD_REQUEST, "사용 가능한 공장이 없습니다.",40013),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "유효하지 않은 Idempotency-Key 입니다.",40014),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.",40015),
+    INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다.",40016),
 
     SHORT_PUBLIC_KEY(HttpStatus.BAD_REQUEST, "서명용 공개키의 길이가 짧습니다. 적어도 2048비트 이상으로 설정하세요.", 12401),
     NULL_BLANK_TOKEN(HttpStatus.BAD_REQUEST, "토큰 값은 Null 또는 공백이면 안됩니다.", 12400),
@@ -57,11 +60,15 @@ public enum ErrorStatus {
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다.", 40405),
     PART_NOT_FOUND(HttpStatus.NOT_FOUND, "부품을 찾을 수 없습니다.", 40406),
     BOM_NOT_FOUND(HttpStatus.NOT_FOUND, "BOM을 찾을 수 없습니다.", 40407),
+    OUTBOX_REDRIVE_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "재발행 작업을 찾을 수 없습니다.", 40408),
 
 
 
     // 409 CONFLICT
     CONFLICT(HttpStatus.CONFLICT, "충돌이 발생했습니다.",40901),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 의 요청이 처리 중입니다.",40902),
+    OUTBOX_REDRIVE_IN_PROGRESS(HttpStatus.CONFLICT, "진행 중인 재발행 작업이 있습니다.",40903),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.CONFLICT, "같은 Idempotency-Key 로 다른 요청 본문이 전송되었습니다.",40904),
 
     // 500 INTERNAL_SERVER_ERROR
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.",40501);
@@ -1,5 +1,6 @@
 package com.sampoom.purchase.common.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.util.List;
@@ -9,8 +10,10 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponseDto<T> {
     private List<T> content;         // 실제 데이터
-    private long totalElements;      // 총 요소 수
-    private int totalPages;          // 총 페이지 수
-}
\ No newline at end of file
+    private Long totalElements;      // 총 요소 수 (커서 조회에서는 생략)
+    private Integer totalPages;      // 총 페이지 수 (커서 조회에서는 생략)
+    private String nextCursor;       // 다음 페이지 커서 (커서 조회, 마지막 페이지면 생략)
+}
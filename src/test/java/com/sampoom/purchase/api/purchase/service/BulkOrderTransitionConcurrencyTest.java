@@ -0,0 +1,112 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderResponseDto;
+import com.sampoom.purchase.api.purchase.entity.OrderStatus;
+import com.sampoom.purchase.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 입고/취소가 같은 주문들에 동시에 실행되면 주문마다 한쪽만 전환해야 함
+ * - 두 결과의 ID 는 겹치지 않고 합치면 전체, 아웃박스 전환 이벤트는 주문당 한 건
+ */
+class BulkOrderTransitionConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int ORDERS = 40;
+
+    @Autowired
+    private PurchaseService purchaseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentBulkReceiveAndCancelSplitTheOrders() throws Exception {
+        List<Long> ids = createOrders("BULK-CAS");
+        List<Long> reversed = new ArrayList<>(ids);
+        Collections.reverse(reversed);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<List<PurchaseOrderResponseDto>> receive = pool.submit(() -> {
+                start.await();
+                return purchaseService.receiveOrders(ids);
+            });
+            Future<List<PurchaseOrderResponseDto>> cancel = pool.submit(() -> {
+                start.await();
+                return purchaseService.cancelOrders(reversed);
+            });
+            start.countDown();
+
+            Set<Long> received = idsOf(receive.get(30, TimeUnit.SECONDS));
+            Set<Long> canceled = idsOf(cancel.get(30, TimeUnit.SECONDS));
+
+            assertThat(received).doesNotContainAnyElementsOf(canceled);
+            Set<Long> all = new HashSet<>(received);
+            all.addAll(canceled);
+            assertThat(all).containsExactlyInAnyOrderElementsOf(ids);
+
+            for (Long id : ids) {
+                OrderStatus expected = received.contains(id) ? OrderStatus.RECEIVED : OrderStatus.CANCELED;
+                assertThat(currentStatus(id)).as("order %d", id).isEqualTo(expected);
+                assertThat(transitionEvents(id)).as("order %d", id).isEqualTo(1);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void bulkTransitionSkipsProcessedAndUnknownOrders() {
+        List<Long> ids = createOrders("BULK-SKIP").subList(0, 4);
+        purchaseService.cancelOrder(ids.get(0));
+
+        List<Long> request = new ArrayList<>(ids);
+        request.add(-1L); // 없는 주문
+        Set<Long> received = idsOf(purchaseService.receiveOrders(request));
+
+        assertThat(received).containsExactlyInAnyOrderElementsOf(ids.subList(1, 4));
+        assertThat(currentStatus(ids.get(0))).isEqualTo(OrderStatus.CANCELED);
+    }
+
+    private List<Long> createOrders(String prefix) {
+        List<Long> ids = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            ids.add(purchaseService.createMaterialOrder(orderRequest(prefix + "-" + i)).getId());
+        }
+        return ids;
+    }
+
+    private static Set<Long> idsOf(List<PurchaseOrderResponseDto> responses) {
+        Set<Long> ids = new HashSet<>();
+        responses.forEach(response -> ids.add(response.getId()));
+        return ids;
+    }
+
+    private OrderStatus currentStatus(Long orderId) {
+        return OrderStatus.valueOf(jdbcTemplate.queryForObject(
+                "SELECT status FROM purchase_order WHERE purchase_order_id = ?", String.class, orderId));
+    }
+
+    private int transitionEvents(Long orderId) {
+        return jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM purchase_outbox
+                 WHERE aggregate_id = ? AND event_type IN ('PurchaseOrderReceived', 'PurchaseOrderCanceled')
+                """, Integer.class, orderId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikePatternsTest {
+
+    @Test
+    void escapesWildcardsSoTheyMatchLiterally() {
+        assertThat(LikePatterns.escape("50%_off\\x")).isEqualTo("50\\%\\_off\\\\x");
+    }
+
+    @Test
+    void containsLowercasesAndWrapsWithWildcards() {
+        assertThat(LikePatterns.contains("Bolt_M8")).isEqualTo("%bolt\\_m8%");
+    }
+
+    @Test
+    void nullStaysNull() {
+        assertThat(LikePatterns.escape(null)).isNull();
+    }
+}
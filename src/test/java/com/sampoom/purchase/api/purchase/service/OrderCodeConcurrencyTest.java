@@ -0,0 +1,82 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderResponseDto;
+import com.sampoom.purchase.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드가 단건/대량 등록을 동시에 해도 주문 코드가 겹치지 않아야 함
+ * (인스턴스 안의 블록 재사용 + DB 카운터 블록 예약)
+ */
+class OrderCodeConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 20;
+    private static final int BULK_SIZE = 5;
+
+    @Autowired
+    private PurchaseService purchaseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void parallelSingleAndBulkCreationsGetDistinctCodes() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<PurchaseOrderResponseDto>>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                boolean bulk = t % 2 == 0;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    List<PurchaseOrderResponseDto> created = new ArrayList<>();
+                    for (int i = 0; i < ROUNDS; i++) {
+                        if (bulk) {
+                            created.addAll(purchaseService.createMaterialOrders(
+                                    Collections.nCopies(BULK_SIZE, orderRequest("CODE-BULK"))));
+                        } else {
+                            created.add(purchaseService.createMaterialOrder(orderRequest("CODE-SINGLE")));
+                        }
+                    }
+                    return created;
+                }));
+            }
+            start.countDown();
+
+            List<PurchaseOrderResponseDto> created = new ArrayList<>();
+            for (Future<List<PurchaseOrderResponseDto>> future : futures) {
+                created.addAll(future.get(2, TimeUnit.MINUTES));
+            }
+
+            int expected = THREADS / 2 * ROUNDS * (BULK_SIZE + 1);
+            List<String> codes = created.stream().map(PurchaseOrderResponseDto::getOrderCode).toList();
+            assertThat(codes).hasSize(expected).doesNotContainNull().doesNotHaveDuplicates();
+
+            // 응답뿐 아니라 저장된 행도 코드가 모두 다름
+            Long[] ids = created.stream().map(PurchaseOrderResponseDto::getId).toArray(Long[]::new);
+            Integer distinct = jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(
+                        "SELECT count(DISTINCT code) FROM purchase_order WHERE purchase_order_id = ANY(?)");
+                ps.setArray(1, con.createArrayOf("bigint", ids));
+                return ps;
+            }, rs -> rs.next() ? rs.getInt(1) : 0);
+            assertThat(distinct).isEqualTo(expected);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sampoom.purchase.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NDJSON 내보내기: 한 줄에 JSON 하나, 줄 앞에 구분 공백 없이 '\n' 으로만 구분
+ */
+class OrderExportNdjsonTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private PurchaseService purchaseService;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void twoOrdersAreWrittenAsTwoNewlineTerminatedLines() throws Exception {
+        String materialCode = "NDJSON-" + UUID.randomUUID();
+        Long first = purchaseService.createMaterialOrder(orderRequest(materialCode)).getId();
+        Long second = purchaseService.createMaterialOrder(orderRequest(materialCode)).getId();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        orderExportService.export(new OrderExportService.ExportFilter(null, null, materialCode, null, null),
+                OrderExportService.Format.NDJSON, out);
+
+        // 최신 주문부터 (orderAt DESC, id DESC)
+        String expected = objectMapper.writeValueAsString(purchaseService.getOrder(second)) + "\n"
+                + objectMapper.writeValueAsString(purchaseService.getOrder(first)) + "\n";
+        assertThat(out.toByteArray()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,99 @@
+package com.sampoom.purchase.api.purchase.service;
+
+import com.sampoom.purchase.api.purchase.entity.OrderStatus;
+import com.sampoom.purchase.common.exception.BadRequestException;
+import com.sampoom.purchase.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 주문에 입고/취소가 동시에 들어오면 조건부 UPDATE(CAS) 하나만 성공해야 함
+ * - 진 쪽은 ORDER_ALREADY_PROCESSED, 아웃박스 전환 이벤트도 한 건만 기록
+ */
+class OrderStatusTransitionConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int ORDERS = 30;
+
+    @Autowired
+    private PurchaseService purchaseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentReceiveAndCancelHaveExactlyOneWinner() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < ORDERS; i++) {
+                Long orderId = purchaseService.createMaterialOrder(orderRequest("CAS-" + i)).getId();
+                CountDownLatch start = new CountDownLatch(1);
+                Future<OrderStatus> receive = pool.submit(race(start, () -> purchaseService.receiveOrder(orderId).getStatus()));
+                Future<OrderStatus> cancel = pool.submit(race(start, () -> purchaseService.cancelOrder(orderId).getStatus()));
+                start.countDown();
+
+                OrderStatus received = outcome(receive);
+                OrderStatus canceled = outcome(cancel);
+                assertThat(received == null ^ canceled == null)
+                        .as("order %d received=%s canceled=%s", orderId, received, canceled)
+                        .isTrue();
+
+                OrderStatus winner = received != null ? received : canceled;
+                assertThat(currentStatus(orderId)).isEqualTo(winner);
+                assertThat(transitionEvents(orderId)).isEqualTo(1);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void repeatedReceiveIsRejected() {
+        Long orderId = purchaseService.createMaterialOrder(orderRequest("CAS-REPEAT")).getId();
+        purchaseService.receiveOrder(orderId);
+
+        assertThatThrownBy(() -> purchaseService.receiveOrder(orderId))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(transitionEvents(orderId)).isEqualTo(1);
+    }
+
+    private static <T> Callable<T> race(CountDownLatch start, Callable<T> action) {
+        return () -> {
+            start.await();
+            return action.call();
+        };
+    }
+
+    // 성공하면 전환된 상태, 이미 처리된 주문으로 거절되면 null
+    private static OrderStatus outcome(Future<OrderStatus> future) throws Exception {
+        try {
+            return future.get(30, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(BadRequestException.class);
+            return null;
+        }
+    }
+
+    private OrderStatus currentStatus(Long orderId) {
+        return OrderStatus.valueOf(jdbcTemplate.queryForObject(
+                "SELECT status FROM purchase_order WHERE purchase_order_id = ?", String.class, orderId));
+    }
+
+    private int transitionEvents(Long orderId) {
+        return jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM purchase_outbox
+                 WHERE aggregate_id = ? AND event_type IN ('PurchaseOrderReceived', 'PurchaseOrderCanceled')
+                """, Integer.class, orderId);
+    }
+}
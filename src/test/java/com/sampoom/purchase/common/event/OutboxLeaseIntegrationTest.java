@@ -0,0 +1,206 @@
+package com.sampoom.purchase.common.event;
+
+import com.sampoom.purchase.api.purchase.service.PurchaseService;
+import com.sampoom.purchase.support.PostgresIntegrationTest;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 아웃박스 선점(SKIP LOCKED + lease)과 발행 결과 반영
+ * - 백그라운드 발행 루프는 멈추고 claimBatch / publishBatch 를 직접 호출
+ */
+class OutboxLeaseIntegrationTest extends PostgresIntegrationTest {
+
+    private static final int MAX_RETRY = 10;
+
+    @Autowired
+    private PurchaseService purchaseService;
+
+    @Autowired
+    private PurchaseOutboxRepository outboxRepository;
+
+    @Autowired
+    private PurchaseOutboxPublisher publisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void stopPublisherAndClearBacklog() {
+        publisher.stop();
+        // 다른 테스트가 남긴 미발행 행은 이 테스트의 선점 대상에서 제외
+        jdbcTemplate.update("UPDATE purchase_outbox SET status = 'PUBLISHED', lease_token = NULL, lease_until = NULL "
+                + "WHERE status <> 'PUBLISHED'");
+    }
+
+    @AfterEach
+    void restartPublisher() {
+        publisher.start();
+    }
+
+    @Test
+    void concurrentClaimsNeverShareARow() throws Exception {
+        List<Long> orderIds = createOrders(20);
+        LocalDateTime now = LocalDateTime.now();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<Integer> a = pool.submit(() -> {
+                start.await();
+                return outboxRepository.claimBatch(first, now, now.plusSeconds(60), 15, MAX_RETRY);
+            });
+            Future<Integer> b = pool.submit(() -> {
+                start.await();
+                return outboxRepository.claimBatch(second, now, now.plusSeconds(60), 15, MAX_RETRY);
+            });
+            start.countDown();
+
+            int claimed = a.get(30, TimeUnit.SECONDS) + b.get(30, TimeUnit.SECONDS);
+            List<Long> firstRows = ids(outboxRepository.findByLeaseTokenOrderByOccurredAtAsc(first));
+            List<Long> secondRows = ids(outboxRepository.findByLeaseTokenOrderByOccurredAtAsc(second));
+
+            assertThat(claimed).isEqualTo(orderIds.size());
+            assertThat(firstRows).doesNotContainAnyElementsOf(secondRows);
+            assertThat(firstRows.size() + secondRows.size()).isEqualTo(orderIds.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void uncommittedClaimHoldsBackTheWholeOrder() throws Exception {
+        Long orderId = purchaseService.createMaterialOrder(orderRequest("OUTBOX-RACE")).getId();
+        purchaseService.receiveOrder(orderId);
+        LocalDateTime now = LocalDateTime.now();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        try {
+            // 인스턴스 A: 선점 후 커밋 전에 멈춤 (생성 이벤트 행이 잠긴 상태)
+            Future<Integer> a = pool.submit(() -> new TransactionTemplate(transactionManager).execute(tx -> {
+                int count = outboxRepository.claimBatch(first, now, now.plusSeconds(60), 100, MAX_RETRY);
+                claimed.countDown();
+                try {
+                    commit.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return count;
+            }));
+            assertThat(claimed.await(30, TimeUnit.SECONDS)).isTrue();
+
+            // 인스턴스 B: 잠긴 앞 이벤트를 건너뛰고 뒤 이벤트(입고)만 가져가면 안 됨
+            assertThat(outboxRepository.claimBatch(second, now, now.plusSeconds(60), 100, MAX_RETRY)).isZero();
+            commit.countDown();
+            assertThat(a.get(30, TimeUnit.SECONDS)).isEqualTo(2);
+
+            // A 커밋 후에도 선점 기한 안이면 가져가지 않음
+            assertThat(outboxRepository.claimBatch(second, now, now.plusSeconds(60), 100, MAX_RETRY)).isZero();
+            assertThat(jdbcTemplate.queryForList("SELECT lease_token::text FROM purchase_outbox WHERE aggregate_id = ?",
+                    String.class, orderId)).containsOnly(first.toString());
+        } finally {
+            commit.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void expiredLeaseCanBeClaimedAgain() {
+        createOrders(3);
+        LocalDateTime now = LocalDateTime.now();
+        UUID crashed = UUID.randomUUID();
+        UUID next = UUID.randomUUID();
+
+        // 발행 중 종료된 인스턴스: 선점 기한이 이미 지난 상태
+        assertThat(outboxRepository.claimBatch(crashed, now, now.minusSeconds(1), 100, MAX_RETRY)).isEqualTo(3);
+        // 기한 안의 선점은 다시 가져가지 않음
+        UUID live = UUID.randomUUID();
+        assertThat(outboxRepository.claimBatch(live, now, now.plusSeconds(60), 100, MAX_RETRY)).isEqualTo(3);
+        assertThat(outboxRepository.claimBatch(next, now, now.plusSeconds(60), 100, MAX_RETRY)).isZero();
+    }
+
+    @Test
+    void failedEventBlocksLaterEventsOfTheSameOrderUntilRetried() {
+        Long orderId = purchaseService.createMaterialOrder(orderRequest("OUTBOX-ORDER")).getId();
+        purchaseService.receiveOrder(orderId);
+
+        // 1) 전송 실패: 생성 이벤트는 FAILED, 뒤의 입고 이벤트는 보내지 않고 선점만 해제
+        doReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .when(eventKafkaTemplate).send(any(ProducerRecord.class));
+        publisher.publishBatch();
+        assertThat(statuses(orderId)).containsExactly("FAILED", "READY");
+
+        // 2) 재시도 시각 전에는 같은 주문의 뒤 이벤트도 선점되지 않음
+        acknowledgeKafkaSends();
+        clearInvocations(eventKafkaTemplate);
+        assertThat(publisher.publishBatch()).isZero();
+
+        // 3) 재시도 시각이 되면 앞선 이벤트부터 순서대로 발행
+        jdbcTemplate.update("UPDATE purchase_outbox SET next_retry_at = now() WHERE aggregate_id = ? AND status = 'FAILED'",
+                orderId);
+        publisher.publishBatch();
+        publisher.publishBatch();
+        assertThat(statuses(orderId)).containsExactly("PUBLISHED", "PUBLISHED");
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ArgumentCaptor<ProducerRecord<String, byte[]>> sent = ArgumentCaptor.forClass((Class) ProducerRecord.class);
+        verify(eventKafkaTemplate, times(2)).send(sent.capture());
+        assertThat(sent.getAllValues()).extracting(OutboxLeaseIntegrationTest::eventType)
+                .containsExactly("PurchaseOrderCreated", "PurchaseOrderReceived");
+    }
+
+    private List<Long> createOrders(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(purchaseService.createMaterialOrder(orderRequest("OUTBOX-" + i)).getId());
+        }
+        return ids;
+    }
+
+    private List<String> statuses(Long orderId) {
+        return jdbcTemplate.queryForList("SELECT status FROM purchase_outbox WHERE aggregate_id = ? "
+                + "ORDER BY occurred_at, purchase_outbox_id", String.class, orderId);
+    }
+
+    private static List<Long> ids(List<PurchaseOutbox> rows) {
+        return rows.stream().map(PurchaseOutbox::getId).toList();
+    }
+
+    private static String eventType(ProducerRecord<String, byte[]> record) {
+        Header header = record.headers().lastHeader("event-type");
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,134 @@
+package com.sampoom.purchase.common.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sampoom.purchase.common.event.codec.EventCodec;
+import com.sampoom.purchase.common.event.codec.EventCodecs;
+import com.sampoom.purchase.common.notify.PgNotificationListener;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * exactly-once 모드 (Kafka 트랜잭션) 발행 결과 반영
+ * - 상태는 lockLeased 가 반환한 관리 엔티티에 기록되어야 함
+ * - Kafka 커밋 / DB 커밋 실패 시 행이 재시도 대상(FAILED)으로 남아야 함
+ */
+@SuppressWarnings("unchecked")
+class PurchaseOutboxPublisherTransactionalTest {
+
+    private final PurchaseOutboxRepository repo = mock(PurchaseOutboxRepository.class);
+    private final KafkaTemplate<String, byte[]> txKafka = mock(KafkaTemplate.class);
+    private final PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+    private PurchaseOutboxPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        ObjectProvider<KafkaTemplate<String, byte[]>> txProvider = mock(ObjectProvider.class);
+        when(txProvider.getIfAvailable()).thenReturn(txKafka);
+        EventCodec codec = mock(EventCodec.class);
+        when(codec.schemaVersion()).thenReturn(1);
+        EventCodecs codecs = mock(EventCodecs.class);
+        when(codecs.forContentType(any())).thenReturn(codec);
+
+        when(txManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+        doReturn(CompletableFuture.completedFuture(null)).when(txKafka).send(any(ProducerRecord.class));
+        when(repo.claimBatch(any(), any(), any(), anyInt(), anyInt())).thenReturn(2);
+        when(repo.findByLeaseTokenOrderByOccurredAtAsc(any())).thenReturn(rows());
+
+        publisher = new PurchaseOutboxPublisher(repo, mock(KafkaTemplate.class), txProvider, codecs,
+                new ObjectMapper(), txManager, mock(PgNotificationListener.class), mock(OutboxLanes.class),
+                mock(OutboxMetrics.class), false, "purchase-order-snapshots", 60, 50, 5000);
+    }
+
+    @Test
+    void marksTheLockedManagedRowsPublished() {
+        List<PurchaseOutbox> detached = rows();
+        List<PurchaseOutbox> managed = rows();
+        when(repo.findByLeaseTokenOrderByOccurredAtAsc(any())).thenReturn(detached);
+        when(repo.lockLeased(any(), any())).thenReturn(managed);
+        commitKafkaTransaction();
+
+        publisher.publishBatch();
+
+        assertThat(managed).extracting(PurchaseOutbox::getStatus).containsOnly(OutboxStatus.PUBLISHED);
+        assertThat(managed).extracting(PurchaseOutbox::getLeaseToken).containsOnlyNulls();
+        assertThat(detached).extracting(PurchaseOutbox::getStatus).containsOnly(OutboxStatus.READY);
+        verify(txKafka, times(2)).send(any(ProducerRecord.class));
+        verify(txManager, never()).rollback(any());
+    }
+
+    @Test
+    void kafkaCommitFailureRollsBackAndSchedulesRetry() {
+        List<PurchaseOutbox> firstAttempt = rows();
+        List<PurchaseOutbox> afterRollback = rows();
+        when(repo.lockLeased(any(), any())).thenReturn(firstAttempt, afterRollback);
+        when(txKafka.executeInTransaction(any())).thenAnswer(inv -> {
+            inv.<KafkaOperations.OperationsCallback<String, byte[], Object>>getArgument(0).doInOperations(txKafka);
+            throw new KafkaException("commit failed");
+        });
+
+        publisher.publishBatch();
+
+        verify(txManager).rollback(any());
+        assertThat(afterRollback).extracting(PurchaseOutbox::getStatus).containsOnly(OutboxStatus.FAILED);
+        assertThat(afterRollback).extracting(PurchaseOutbox::getRetryCount).containsOnly(1);
+        assertThat(afterRollback).extracting(PurchaseOutbox::getNextRetryAt).doesNotContainNull();
+    }
+
+    @Test
+    void dbCommitFailureAfterKafkaCommitSchedulesRetry() {
+        List<PurchaseOutbox> firstAttempt = rows();
+        List<PurchaseOutbox> afterFailure = rows();
+        when(repo.lockLeased(any(), any())).thenReturn(firstAttempt, afterFailure);
+        commitKafkaTransaction();
+        doThrow(new TransactionSystemException("commit failed")).doNothing().when(txManager).commit(any());
+
+        publisher.publishBatch();
+
+        // Kafka 에는 이미 커밋됨 → 재전송(중복)은 소비자가 event-id 로 제거, 유실은 없음
+        verify(txKafka).executeInTransaction(any());
+        assertThat(afterFailure).extracting(PurchaseOutbox::getStatus).containsOnly(OutboxStatus.FAILED);
+        assertThat(afterFailure).extracting(PurchaseOutbox::getLeaseToken).containsOnlyNulls();
+    }
+
+    private void commitKafkaTransaction() {
+        when(txKafka.executeInTransaction(any())).thenAnswer(inv ->
+                inv.<KafkaOperations.OperationsCallback<String, byte[], Object>>getArgument(0).doInOperations(txKafka));
+    }
+
+    private static List<PurchaseOutbox> rows() {
+        return List.of(row(1L), row(2L));
+    }
+
+    private static PurchaseOutbox row(long id) {
+        return PurchaseOutbox.builder()
+                .id(id)
+                .aggregateId(10L)
+                .eventType("PurchaseOrderCreated")
+                .eventId(UUID.randomUUID())
+                .payloadBytes(new byte[]{1})
+                .contentType("application/json")
+                .status(OutboxStatus.READY)
+                .retryCount(0)
+                .leaseToken(UUID.randomUUID())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
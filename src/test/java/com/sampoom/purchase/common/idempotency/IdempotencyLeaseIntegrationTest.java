@@ -0,0 +1,48 @@
+package com.sampoom.purchase.common.idempotency;
+
+import com.sampoom.purchase.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 처리 중 선점(lease): 실행 중인 쪽이 연장하는 동안에는 같은 키를 다른 요청이 이어받지 못함
+ */
+class IdempotencyLeaseIntegrationTest extends PostgresIntegrationTest {
+
+    private static final String HASH = "hash";
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Test
+    void inProgressKeyIsTakenOverOnlyAfterTheLeaseExpires() {
+        String key = "test:" + UUID.randomUUID();
+        UUID owner = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        LocalDateTime start = LocalDateTime.now();
+
+        assertThat(claim(key, owner, start)).isEqualTo(1);
+
+        // 생성 후 오래 지났어도 owner 가 연장하고 있으면 이어받지 못함
+        LocalDateTime later = start.plusMinutes(5);
+        assertThat(repository.renewLease(key, owner, later.plusSeconds(60))).isEqualTo(1);
+        assertThat(claim(key, other, later)).isZero();
+
+        // 연장이 멈춰 lease 가 만료되면 이어받음, 이전 owner 는 더 이상 연장/완료하지 못함
+        LocalDateTime expired = later.plusSeconds(61);
+        assertThat(claim(key, other, expired)).isEqualTo(1);
+        assertThat(repository.renewLease(key, owner, expired.plusSeconds(60))).isZero();
+        assertThat(repository.complete(key, owner, "{}")).isZero();
+        assertThat(repository.release(key, owner)).isZero();
+        assertThat(repository.complete(key, other, "{}")).isEqualTo(1);
+    }
+
+    private int claim(String key, UUID token, LocalDateTime now) {
+        return repository.claim(key, HASH, token, now, now.plusSeconds(60), now.plusHours(24), now.minusSeconds(60));
+    }
+}
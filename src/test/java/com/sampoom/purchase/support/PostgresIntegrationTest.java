@@ -0,0 +1,76 @@
+package com.sampoom.purchase.support;
+
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderItemDto;
+import com.sampoom.purchase.api.purchase.dto.PurchaseOrderRequestDto;
+import com.sampoom.purchase.common.config.jwt.JwtProvider;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * 실제 PostgreSQL(Testcontainers) 위에서 동작을 확인하는 통합 테스트 기반
+ * - 컨테이너는 테스트 클래스 사이에 공유 (Spring 컨텍스트 캐시와 수명을 맞춤), Docker 가 없으면 건너뜀
+ * - Kafka 전송은 목으로 대체 (즉시 ack)
+ * - 테스트끼리 같은 DB 를 쓰므로 검증은 각 테스트가 만든 주문 ID 기준으로 함
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=update",
+        "purchase.kafka.snapshot.enabled=false",
+        "purchase.archive.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @MockitoBean
+    protected JwtProvider jwtProvider;
+
+    @MockitoBean(name = "eventKafkaTemplate")
+    protected KafkaTemplate<String, byte[]> eventKafkaTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        POSTGRES.start(); // 이미 실행 중이면 그대로 사용
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeEach
+    protected void acknowledgeKafkaSends() {
+        doReturn(CompletableFuture.completedFuture(null)).when(eventKafkaTemplate).send(any(ProducerRecord.class));
+    }
+
+    protected static PurchaseOrderRequestDto orderRequest(String materialCode) {
+        return PurchaseOrderRequestDto.builder()
+                .factoryId(1L)
+                .factoryName("1공장")
+                .requesterName("테스트")
+                .requiredAt(LocalDateTime.now().plusDays(14))
+                .items(List.of(PurchaseOrderItemDto.builder()
+                        .materialCode(materialCode)
+                        .materialName("볼트 " + materialCode)
+                        .unit("EA")
+                        .quantity(10L)
+                        .standardQuantity(10L)
+                        .unitPrice(BigDecimal.valueOf(1200))
+                        .leadTimeDays(3)
+                        .build()))
+                .build();
+    }
+}